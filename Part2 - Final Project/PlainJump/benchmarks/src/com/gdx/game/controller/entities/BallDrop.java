@@ -0,0 +1,122 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.bullet.dynamics.btRigidBody;
+import com.gdx.game.model.entities.BallModel;
+import com.gdx.game.model.entities.PlainModel;
+
+/**
+ * This class drops the ball of a map straight down on one of its plains,
+ * at a given speed, and tells whether it landed on the plain or tunnelled
+ * through it. Each drop starts from a different height, spread over the
+ * motion of one substep, so every alignment of the steps with the plain
+ * is sampled once every PHASES drops.
+ */
+class BallDrop {
+
+    /**
+     * user value of the plain the ball is dropped on
+     */
+    static final int PLAIN_USER_VALUE = 1;
+
+    /**
+     * number of heights the ball is dropped from, spread over one substep motion
+     */
+    static final int PHASES = 16;
+
+    /**
+     * distance between the ball and the plain on the lowest drop
+     */
+    private static final float CLEARANCE = 1f;
+
+    /**
+     * number of ticks simulated per drop
+     */
+    private static final int DROP_TICKS = 12;
+
+    /**
+     * this drop map
+     */
+    private final MapController map;
+
+    /**
+     * this drop ball
+     */
+    private final BallController ball;
+
+    /**
+     * this drop ball radius
+     */
+    private final float radius;
+
+    /**
+     * this drop plain center position
+     */
+    private final Vector3 plain;
+
+    /**
+     * this drop plain half height
+     */
+    private final float halfHeight;
+
+    /**
+     * this drop number of drops done
+     */
+    private int drops;
+
+    /**
+     * this vector used for the ball velocity
+     */
+    private final Vector3 velocity;
+
+    /**
+     * Creates the drops of the ball of the given map on its first plain.
+     * @param map the map
+     */
+    BallDrop(MapController map) {
+        this.map = map;
+        ball = BallController.getInstance();
+        radius = ((BallModel) ball.getModel()).getDiameter() / 2;
+        EntityController pc = map.getRegistry().get(PLAIN_USER_VALUE);
+        plain = new Vector3(pc.getBody().getCenterOfMassPosition());
+        halfHeight = ((PlainModel) pc.getModel()).getHeight() / 2;
+        velocity = new Vector3();
+        drops = 0;
+    }
+
+    /**
+     * Drops the ball on the plain, from a height that changes on each drop.
+     * @param speed the ball downwards speed
+     * @return true if the ball landed, false if it tunnelled through the plain
+     */
+    boolean drop(float speed) {
+        float motion = speed * MapController.TICK / map.getSubsteps();
+        float y = plain.y + halfHeight + radius + CLEARANCE + motion * (drops++ % PHASES) / PHASES;
+
+        btRigidBody body = ball.getBody();
+        ball.getView().getBodyInstance().transform.setToTranslation(plain.x, y, plain.z);
+        body.proceedToTransform(ball.getView().getBodyInstance().transform);
+        body.setLinearVelocity(velocity.set(0, -speed, 0));
+        body.setAngularVelocity(Vector3.Zero);
+        body.clearForces();
+        body.activate();
+
+        for (int i = 0; i < DROP_TICKS; ++i)
+            map.stepWorld(MapController.TICK);
+
+        return body.getCenterOfMassPosition().y > plain.y;
+    }
+
+    /**
+     * Drops the ball once from each height.
+     * @param speed the ball downwards speed
+     * @return the number of drops that tunnelled through the plain
+     */
+    int dropAll(float speed) {
+        int tunnelled = 0;
+        for (int i = 0; i < PHASES; ++i)
+            if (!drop(speed))
+                ++tunnelled;
+        return tunnelled;
+    }
+}
@@ -0,0 +1,108 @@
+package com.gdx.game.controller.entities;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks the ball falling fast on a plain, with and
+ * without continuous collision detection, at each number of substeps.
+ * Besides the time per drop it counts the drops that landed on the plain
+ * and the drops that tunnelled through it, so the cheapest substep count
+ * that keeps every collision can be read for each speed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CcdBenchmark {
+
+    /**
+     * This class holds the drop setup: substeps, ball ccd and speed.
+     */
+    @State(Scope.Thread)
+    public static class DropState {
+
+        /**
+         * this drop number of physics substeps per tick
+         */
+        @Param({"1", "2", "4", "8"})
+        public int substeps;
+
+        /**
+         * this drop ball continuous collision detection flag
+         */
+        @Param({"false", "true"})
+        public boolean ccd;
+
+        /**
+         * this drop ball downwards speed
+         */
+        @Param({"300", "600"})
+        public float speed;
+
+        /**
+         * this state ball drops
+         */
+        BallDrop drop;
+
+        /**
+         * Sets the map substeps and ball ccd of this drop.
+         * @param state the map state
+         */
+        @Setup(Level.Trial)
+        public void setUp(MapState state) {
+            state.map.setSubsteps(substeps);
+            BallController.getInstance().setCcd(ccd);
+            drop = new BallDrop(state.map);
+        }
+    }
+
+    /**
+     * This class counts the drops of an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Drops {
+
+        /**
+         * number of drops that landed on the plain
+         */
+        public long landed;
+
+        /**
+         * number of drops that went through the plain
+         */
+        public long tunnelled;
+
+        /**
+         * Clears the counters of a new iteration.
+         */
+        @Setup(Level.Iteration)
+        public void clear() {
+            landed = 0;
+            tunnelled = 0;
+        }
+    }
+
+    @Benchmark
+    public void drop(DropState state, Drops drops) {
+        if (state.drop.drop(state.speed))
+            ++drops.landed;
+        else
+            ++drops.tunnelled;
+    }
+}
@@ -0,0 +1,62 @@
+package com.gdx.game.controller.entities;
+
+import com.gdx.game.controller.MapSimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks each phase of the MapController update,
+ * in isolation and as a full frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FramePhasesBenchmark {
+
+    /**
+     * user value of the first plain added to the world
+     */
+    private static final int PLAIN_USER_VALUE = 1;
+
+    @Benchmark
+    public void stepSimulation(MapState state) {
+        state.map.stepWorld(MapSimulation.DEFAULT_DELTA);
+    }
+
+    @Benchmark
+    public void updateBonus(MapState state) {
+        state.map.updateBonus();
+    }
+
+    @Benchmark
+    public void updateBall(MapState state) {
+        state.map.updateBall();
+    }
+
+    @Benchmark
+    public void placePlainsLevel(MapState state) {
+        state.map.placePlainsLevel();
+    }
+
+    @Benchmark
+    public boolean contactDispatch(MapState state) {
+        boolean processed = state.map.getContactListener().onContactAdded(0, 0, 0, PLAIN_USER_VALUE, 0, 0);
+        state.map.getContactListener().onContactEnded(0, PLAIN_USER_VALUE);
+        return processed;
+    }
+
+    @Benchmark
+    public void fullFrame(MapState state) {
+        state.simulation.tick(MapSimulation.DEFAULT_DELTA);
+    }
+}
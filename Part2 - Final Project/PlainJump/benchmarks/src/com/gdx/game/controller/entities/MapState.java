@@ -0,0 +1,63 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.gdx.game.controller.MapSimulation;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This class holds a headless map, built from a fixed seed,
+ * shared by the benchmarks of a trial.
+ */
+@State(Scope.Thread)
+public class MapState {
+
+    /**
+     * this map random generator seed
+     */
+    @Param({"42"})
+    public long seed;
+
+    /**
+     * this headless application, providing Gdx.app and a mock GL
+     */
+    HeadlessApplication application;
+
+    /**
+     * this headless simulation
+     */
+    MapSimulation simulation;
+
+    /**
+     * this simulation map
+     */
+    MapController map;
+
+    /**
+     * Boots the headless backend and builds the map from this seed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Bullet.init();
+        simulation = new MapSimulation(seed);
+        map = simulation.getMap();
+    }
+
+    /**
+     * Disposes of this map and stops the headless backend.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+        application.exit();
+    }
+}
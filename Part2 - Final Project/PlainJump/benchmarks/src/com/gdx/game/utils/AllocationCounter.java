@@ -0,0 +1,71 @@
+package com.gdx.game.utils;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * This class counts the heap bytes allocated by the current thread
+ * between a start and a stop, discounting the bytes allocated by the
+ * measurement itself.
+ */
+public class AllocationCounter {
+
+    /**
+     * number of reads used to calibrate the measurement overhead
+     */
+    private static final int CALIBRATION_READS = 10;
+
+    /**
+     * this counter thread bean
+     */
+    private final com.sun.management.ThreadMXBean bean;
+
+    /**
+     * this counter measured thread id
+     */
+    private final long threadId;
+
+    /**
+     * this counter bytes allocated by a single read
+     */
+    private final long overhead;
+
+    /**
+     * this counter allocated bytes on start
+     */
+    private long start;
+
+    /**
+     * Creates a counter for the current thread.
+     */
+    public AllocationCounter() {
+        bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        bean.setThreadAllocatedMemoryEnabled(true);
+        threadId = Thread.currentThread().getId();
+
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_READS; ++i) {
+            long before = read();
+            min = Math.min(min, read() - before);
+        }
+        overhead = min;
+    }
+
+    private long read() {
+        return bean.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Starts counting.
+     */
+    public void start() {
+        start = read();
+    }
+
+    /**
+     * Stops counting.
+     * @return the bytes allocated since start
+     */
+    public long stop() {
+        return Math.max(0, read() - start - overhead);
+    }
+}
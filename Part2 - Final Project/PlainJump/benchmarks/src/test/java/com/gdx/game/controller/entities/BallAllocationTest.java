@@ -0,0 +1,58 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.gdx.game.controller.MapSimulation;
+import com.gdx.game.utils.AllocationCounter;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BallAllocationTest {
+
+    static final int WARMUP_FRAMES = 5000;
+
+    static final int FRAMES = 600;
+
+    static HeadlessApplication application;
+
+    static MapSimulation simulation;
+
+    @BeforeClass
+    public static void setUp() {
+        application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Bullet.init();
+        simulation = new MapSimulation(42);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        simulation.dispose();
+        application.exit();
+    }
+
+    private void frame(BallController ball) {
+        ball.moveLeft();
+        ball.moveRight();
+        ball.jump();
+        simulation.tick(MapSimulation.DEFAULT_DELTA);
+    }
+
+    @Test
+    public void frameAllocation() {
+        BallController ball = BallController.getInstance();
+        for (int i = 0; i < WARMUP_FRAMES; ++i)
+            frame(ball);
+
+        AllocationCounter counter = new AllocationCounter();
+        counter.start();
+        for (int i = 0; i < FRAMES; ++i)
+            frame(ball);
+        assertEquals(counter.stop(),0);
+    }
+}
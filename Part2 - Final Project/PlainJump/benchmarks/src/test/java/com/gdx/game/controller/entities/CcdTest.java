@@ -0,0 +1,59 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.gdx.game.controller.MapSimulation;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CcdTest {
+
+    static final long SEED = 42;
+
+    static final float SPEED = 600;
+
+    static HeadlessApplication application;
+
+    static MapSimulation simulation;
+
+    @BeforeClass
+    public static void setUp() {
+        application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Bullet.init();
+        simulation = new MapSimulation(SEED);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        BallController.getInstance().setCcd(true);
+        simulation.dispose();
+        application.exit();
+    }
+
+    private int tunnelled(int substeps, boolean ccd) {
+        MapController map = simulation.getMap();
+        map.setSubsteps(substeps);
+        map.restart(SEED);
+        assertEquals(map.getSubsteps(),substeps);
+        BallController.getInstance().setCcd(ccd);
+        return new BallDrop(map).dropAll(SPEED);
+    }
+
+    @Test
+    public void ccdAtOneSubstep() {
+        assertTrue(tunnelled(1, false) > 0);
+        assertEquals(tunnelled(1, true),0);
+    }
+
+    @Test
+    public void substepsWithoutCcd() {
+        assertTrue(tunnelled(2, false) > 0);
+        assertEquals(tunnelled(8, false),0);
+    }
+}
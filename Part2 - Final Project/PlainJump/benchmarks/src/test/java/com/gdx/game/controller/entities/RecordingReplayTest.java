@@ -0,0 +1,74 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.gdx.game.controller.MapSimulation;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RecordingReplayTest {
+
+    static final long SEED = 42;
+
+    static final int FRAMES = 600;
+
+    static HeadlessApplication application;
+
+    static MapSimulation simulation;
+
+    @BeforeClass
+    public static void setUp() {
+        application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Bullet.init();
+        simulation = new MapSimulation(SEED);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        simulation.dispose();
+        application.exit();
+    }
+
+    private static void input(InputFrame frame, int i) {
+        int keys = i % 90 < 30 ? InputFrame.LEFT : i % 90 < 60 ? InputFrame.RIGHT : 0;
+        if (i % 120 == 0)
+            keys |= InputFrame.SPACE;
+        frame.set(keys, 0, i % 3 == 0 ? 1f / 45 : MapSimulation.DEFAULT_DELTA);
+    }
+
+    @Test
+    public void replayRecordedRun() {
+        MapController map = simulation.getMap();
+        InputFrame frame = new InputFrame();
+
+        simulation.run(120, MapSimulation.DEFAULT_DELTA);
+        map.restart(SEED);
+        input(frame, 1);
+        map.step(simulation.getCamera(), frame);
+
+        InputRecorder recorder = new InputRecorder(SEED, map.getSubsteps());
+        map.setMoving(true);
+        for (int i = 0; i < FRAMES; ++i) {
+            input(frame, i);
+            recorder.record(frame);
+            map.step(simulation.getCamera(), frame);
+        }
+        Vector3 recorded = new Vector3(BallController.getInstance().getBody().getCenterOfMassPosition());
+        int score = map.getScore();
+
+        simulation.restart(SEED);
+        simulation.replay(new InputReplay(recorder.toByteArray()));
+        Vector3 replayed = BallController.getInstance().getBody().getCenterOfMassPosition();
+        assertEquals(replayed.x,recorded.x,1e-3f);
+        assertEquals(replayed.y,recorded.y,1e-3f);
+        assertEquals(replayed.z,recorded.z,1e-3f);
+        assertEquals((int) map.getScore(),score);
+    }
+}
@@ -1,11 +1,15 @@
 package com.gdx.game;
 
 import com.badlogic.gdx.ApplicationAdapter;
-import com.badlogic.gdx.physics.bullet.Bullet;
+import com.badlogic.gdx.Gdx;
 import com.gdx.game.controller.GameController;
+import com.gdx.game.controller.GameLoader;
+import com.gdx.game.controller.entities.InputReplay;
+import com.gdx.game.view.LoadingView;
 
 /**
- * Base game class for general control.
+ * Base game class for general control. The game is loaded over the first
+ * frames, showing a loading screen meanwhile.
  */
 public class PlainJump extends ApplicationAdapter {
 
@@ -14,26 +18,111 @@ public class PlainJump extends ApplicationAdapter {
 	 */
 	private GameController controller;
 
+	/**
+	 * this game loader, loading the game on the first frames
+	 */
+	private GameLoader loader;
+
+	/**
+	 * this game loading screen, null once loaded
+	 */
+	private LoadingView loadingView;
+
+	/**
+	 * this game input recording played on start, null to start on the menu
+	 */
+	private String replayPath;
+
+	/**
+	 * this game setting for running the map simulation on its own thread
+	 */
+	private boolean physicsThreaded;
+
+	/**
+	 * this game setting for recording each run input
+	 */
+	private boolean recording;
+
+	/**
+	 * Creates the game starting on the menu.
+	 */
+	public PlainJump() {
+		this(null);
+	}
+
+	/**
+	 * Creates the game starting by replaying the given input recording.
+	 * @param replayPath the recording file path, null to start on the menu
+	 */
+	public PlainJump(String replayPath) {
+		this.replayPath = replayPath;
+	}
+
+	/**
+	 * Sets the map simulation to run on its own thread, must be called before create.
+	 * @param physicsThreaded true to run the simulation on its own thread
+	 */
+	public void setPhysicsThreaded(boolean physicsThreaded) {
+		this.physicsThreaded = physicsThreaded;
+	}
+
+	/**
+	 * Sets each run input to be recorded, must be called before create.
+	 * @param recording true to record runs
+	 */
+	public void setRecording(boolean recording) {
+		this.recording = recording;
+	}
+
 	@Override
 	public void create () {
-		Bullet.init();
-		controller = GameController.getInstance();
-		controller.create();
+		loader = new GameLoader();
+		loadingView = new LoadingView();
 	}
 
 	@Override
 	public void render () {
+		if (controller == null) {
+			loadingView.render(loader.getProgress(), loader.getStep());
+			if (loader.update())
+				start();
+			return;
+		}
 		controller.render();
 	}
 
+	private void start() {
+		loadingView.dispose();
+		loadingView = null;
+		controller = GameController.getInstance();
+		controller.setPhysicsThreaded(physicsThreaded);
+		controller.setRecording(recording);
+		controller.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		if (replayPath != null)
+			controller.startReplay(new InputReplay(Gdx.files.absolute(replayPath)));
+	}
+
+	@Override
+	public void pause () {
+		if (controller != null)
+			controller.pause();
+	}
+
 	@Override
 	public void dispose () {
-		controller.dispose();
+		if (controller != null)
+			controller.dispose();
+		else
+			loadingView.dispose();
+		loader.dispose();
 	}
 
 	@Override
 	public void resize(int width, int height)
 	{
-		controller.resize(width,height);
+		if (controller != null)
+			controller.resize(width,height);
+		else
+			loadingView.resize(width,height);
 	}
 }
@@ -1,9 +1,15 @@
 package com.gdx.game.controller;
 
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
 import com.gdx.game.controller.entities.ConfigsController;
 import com.gdx.game.controller.entities.EntryController;
+import com.gdx.game.controller.entities.InputReplay;
 import com.gdx.game.controller.entities.MapController;
 import com.gdx.game.model.GameModel;
+import com.gdx.game.utils.NativeTracker;
+import com.gdx.game.utils.QualityGovernor;
+import com.gdx.game.view.FontCache;
 import com.gdx.game.view.GameView;
 
 /**
@@ -16,6 +22,16 @@ public class GameController {
      */
     private static GameController instance = null;
 
+    /**
+     * Log tag of the native objects report
+     */
+    private static final String NATIVES_TAG = "natives";
+
+    /**
+     * Frame rate the quality governor aims for
+     */
+    private static final float TARGET_FPS = 60;
+
     /**
      * This GameController GameModel
      */
@@ -37,6 +53,14 @@ public class GameController {
      * This GameController ConfigsController
      */
     private ConfigsController configs;
+    /**
+     * This GameController MusicController
+     */
+    private MusicController music;
+    /**
+     * This GameController quality governor, adapting the map quality to the frame rate
+     */
+    private QualityGovernor governor;
 
     /**
      * This GameController possible states
@@ -52,6 +76,16 @@ public class GameController {
      */
     private State gameState;
 
+    /**
+     * This GameController setting for running the map simulation on its own thread
+     */
+    private boolean physicsThreaded = false;
+
+    /**
+     * This GameController setting for recording each run input to RECORDING_PATH
+     */
+    private boolean recording = false;
+
     /**
      * Creates a default GameController getting menus, map ands model instances
      * as well as creates a new view. Also loads previous runs defined settings
@@ -62,13 +96,21 @@ public class GameController {
         map = MapController.getInstance();
         menu = EntryController.getInstance();
         configs = ConfigsController.getInstance();
+        music = MusicController.getInstance();
 
         model = GameModel.getInstance();
         view = new GameView();
 
         model.loadSettings();
 
+        QualityGovernor.Level min = Gdx.app.getType() == Application.ApplicationType.Desktop ?
+                QualityGovernor.Level.HIGH : QualityGovernor.Level.LOW;
+        governor = new QualityGovernor(TARGET_FPS, min, QualityGovernor.Level.FULL);
+        setQuality();
+
         setGameState(State.MENU);
+
+        FontCache.getInstance().releaseGenerators();
     }
 
     /**
@@ -79,7 +121,7 @@ public class GameController {
         map.setBallInitialColor(model.getBallColor());
         map.setPlainsInitialColor(model.getPlainColor());
         map.setScreenColor(model.getBackgroundColor());
-        map.setMusicOnFlag(model.isMusicOnFlag());
+        music.setMusicOnFlag(model.isMusicOnFlag());
         System.out.println(model.isMusicOnFlag());
     }
 
@@ -96,6 +138,8 @@ public class GameController {
      */
     public void render() {
         map.render(view.getCamera());
+        if(gameState == State.MAP && governor.addFrame(Gdx.graphics.getRawDeltaTime()))
+            setQuality();
         switch(gameState) {
             case MENU:
                 menu.render();
@@ -110,6 +154,14 @@ public class GameController {
         }
     }
 
+    /**
+     * Pauses this GameController, writing the settings saved so far
+     * since the game may not be resumed.
+     */
+    public void pause() {
+        model.flush();
+    }
+
     /**
      * Disposes of this GameController.
      */
@@ -117,6 +169,13 @@ public class GameController {
         map.dispose();
         menu.dispose();
         configs.dispose();
+        FontCache.getInstance().dispose();
+        music.dispose();
+        model.dispose();
+
+        NativeTracker tracker = NativeTracker.getInstance();
+        if(tracker.getLive() > 0)
+            Gdx.app.error(NATIVES_TAG, tracker.report());
     }
 
     /**
@@ -139,17 +198,31 @@ public class GameController {
         this.gameState = gs;
         switch(gs) {
             case MENU:
+                music.stop();
+                map.stopRecording(Gdx.files.local(MapController.RECORDING_PATH));
                 updateBestScore();
                 resetGame();
                 break;
             case CONFIGS:
                 break;
             case MAP:
+                if(physicsThreaded && !map.isReplaying())
+                    map.setPhysicsThreaded(true);
+                else if(recording && !map.isReplaying())
+                    map.startRecording();
                 map.setMoving(true);
+                music.play();
+                governor.clear();
                 break;
         }
     }
 
+    private void setQuality() {
+        QualityGovernor.Level level = governor.getLevel();
+        view.setFar(level.getCameraFar());
+        map.setQuality(level);
+    }
+
     private void updateBestScore() {
         if(menu.getBestScore() < map.getScore()) {
             menu.setBestScore(map.getScore());
@@ -167,13 +240,52 @@ public class GameController {
         return instance;
     }
 
+    /**
+     * Sets the map simulation to run on its own thread from the next run
+     * on. Threaded runs are not recorded.
+     * @param physicsThreaded true to run the simulation on its own thread
+     */
+    public void setPhysicsThreaded(boolean physicsThreaded) {
+        this.physicsThreaded = physicsThreaded;
+    }
+
+    /**
+     * Sets each run input to be recorded to MapController.RECORDING_PATH,
+     * from the next run on. Threaded runs are not recorded.
+     * @param recording true to record runs
+     */
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Starts a new run replaying the given recording, on a map
+     * generated from the recorded seed.
+     * @param replay the recording to replay
+     */
+    public void startReplay(InputReplay replay) {
+        resetGame(replay);
+        setGameState(State.MAP);
+    }
+
     private void resetGame()
     {
-        view.reset();
-        view = GameView.getInstance();
-        map.reset();
-        map = MapController.getInstance();
-        map.create();
+        resetGame(null);
+    }
+
+    private void resetGame(InputReplay replay)
+    {
+        NativeTracker tracker = NativeTracker.getInstance();
+        tracker.beginSession();
+        if(tracker.getLeaks().size > 0)
+            Gdx.app.error(NATIVES_TAG, tracker.report());
+
+        view.restart();
+        if(replay == null)
+            map.restart();
+        else
+            map.restart(replay.getSeed());
+        map.setReplay(replay);
         setSettings();
     }
 }
@@ -0,0 +1,180 @@
+package com.gdx.game.controller;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.gdx.game.controller.entities.ConfigsController;
+import com.gdx.game.controller.entities.EntryController;
+import com.gdx.game.controller.entities.MapController;
+import com.gdx.game.view.FontCache;
+
+/**
+ * This class starts the game a bit on each frame, so a loading screen can
+ * be drawn meanwhile. The baked fonts and the music are loaded by an asset
+ * manager on its own thread, while the steps that need the GL context,
+ * the physics and the game singletons, run on the render thread within a
+ * frame budget, in order. The fonts and the music stay owned by its asset
+ * manager until this loader is disposed.
+ */
+public class GameLoader {
+
+    /**
+     * this loader time spent on each frame, in milliseconds, at least one step is run
+     */
+    public static final long FRAME_BUDGET_MILLIS = 12;
+
+    /**
+     * A startup step run on the render thread.
+     */
+    private static abstract class Step {
+
+        /**
+         * this step name, shown while loading
+         */
+        private final String name;
+
+        /**
+         * this step flag set when it needs every asset loaded
+         */
+        private final boolean needsAssets;
+
+        Step(String name, boolean needsAssets) {
+            this.name = name;
+            this.needsAssets = needsAssets;
+        }
+
+        abstract void run();
+    }
+
+    /**
+     * this loader name shown while waiting for the assets
+     */
+    private static final String ASSETS_STEP = "loading assets";
+
+    /**
+     * this loader asset manager
+     */
+    private AssetManager assets;
+
+    /**
+     * this loader number of assets queued
+     */
+    private int queued;
+
+    /**
+     * this loader flag set once every asset is loaded
+     */
+    private boolean assetsLoaded;
+
+    /**
+     * this loader steps, in order
+     */
+    private Array<Step> steps;
+
+    /**
+     * this loader number of steps run
+     */
+    private int done;
+
+    /**
+     * Creates a loader of the game, queueing its assets.
+     */
+    public GameLoader() {
+        assets = new AssetManager();
+        FontCache.getInstance().queue(assets);
+        MusicController.getInstance().queue(assets);
+        queued = assets.getQueuedAssets();
+        assetsLoaded = false;
+
+        steps = new Array<Step>();
+        done = 0;
+        steps.add(new Step("loading physics", false) {
+            @Override
+            void run() {
+                Bullet.init();
+            }
+        });
+        for (final int size : FontCache.SIZES) {
+            steps.add(new Step("loading fonts", true) {
+                @Override
+                void run() {
+                    FontCache.getInstance().get(size);
+                }
+            });
+        }
+        steps.add(new Step("loading map", false) {
+            @Override
+            void run() {
+                MapController.getInstance();
+            }
+        });
+        steps.add(new Step("loading menus", false) {
+            @Override
+            void run() {
+                EntryController.getInstance();
+                ConfigsController.getInstance();
+            }
+        });
+        steps.add(new Step("loading game", true) {
+            @Override
+            void run() {
+                GameController.getInstance().create();
+            }
+        });
+    }
+
+    /**
+     * Loads the game for about one frame budget.
+     * @return true if the game is loaded, false otherwise
+     */
+    public boolean update() {
+        long start = TimeUtils.millis();
+        if (!assetsLoaded)
+            assetsLoaded = assets.update();
+        while (done < steps.size) {
+            Step step = steps.get(done);
+            if (step.needsAssets && !assetsLoaded)
+                return false;
+            step.run();
+            ++done;
+            if (TimeUtils.timeSinceMillis(start) >= FRAME_BUDGET_MILLIS)
+                break;
+        }
+        return isLoaded();
+    }
+
+    /**
+     * Indicates if the game is loaded.
+     * @return true if every asset is loaded and every step was run
+     */
+    public boolean isLoaded() {
+        return done == steps.size && assetsLoaded;
+    }
+
+    /**
+     * Gets the loading progress, each asset and step weighting the same.
+     * @return the progress, between 0 and 1
+     */
+    public float getProgress() {
+        float total = queued + steps.size;
+        return (assets.getProgress() * queued + done) / total;
+    }
+
+    /**
+     * Gets the name of the step being loaded.
+     * @return the step name, null once loaded
+     */
+    public String getStep() {
+        if (done < steps.size)
+            return steps.get(done).needsAssets && !assetsLoaded ? ASSETS_STEP : steps.get(done).name;
+        return assetsLoaded ? null : ASSETS_STEP;
+    }
+
+    /**
+     * Disposes of this loader assets, once the game is disposed.
+     */
+    public void dispose() {
+        assets.dispose();
+    }
+}
@@ -0,0 +1,160 @@
+package com.gdx.game.controller;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.gdx.game.controller.entities.InputFrame;
+import com.gdx.game.controller.entities.InputReplay;
+import com.gdx.game.controller.entities.MapController;
+import com.gdx.game.utils.FrameProfiler;
+
+/**
+ * This class drives the map physics, ball, plains and bonus logic
+ * without any view, audio or input, allowing it to run from a plain
+ * main or test at fixed time steps.
+ */
+public class MapSimulation {
+
+    /**
+     * this simulation default time step, one map tick
+     */
+    public static final float DEFAULT_DELTA = MapController.TICK;
+
+    /**
+     * this simulation headless map
+     */
+    private MapController map;
+
+    /**
+     * this simulation camera, following the ball as in game
+     */
+    private PerspectiveCamera camera;
+
+    /**
+     * this simulation number of ticks done
+     */
+    private long ticks;
+
+    /**
+     * this simulation frame used to play replays
+     */
+    private InputFrame frame;
+
+    /**
+     * Creates a simulation over a headless MapController, with
+     * the camera on the same position as in game start.
+     * Bullet must already be initialized.
+     */
+    public MapSimulation() {
+        this(MapController.getHeadlessInstance());
+    }
+
+    /**
+     * Creates a simulation over a headless MapController whose plains
+     * and bonus are placed from the given seed.
+     * Bullet must already be initialized.
+     * @param seed the map random generator seed
+     */
+    public MapSimulation(long seed) {
+        this(MapController.getHeadlessInstance(seed));
+    }
+
+    private MapSimulation(MapController map) {
+        this.map = map;
+
+        camera = new PerspectiveCamera(80, 800, 480);
+        camera.position.set(0f, 7f, 10f);
+        camera.lookAt(0, 4f, 0);
+        camera.far = 235f;
+        camera.near = 1f;
+        camera.update();
+
+        ticks = 0;
+        frame = new InputFrame();
+
+        map.setMoving(true);
+    }
+
+    /**
+     * Advances this simulation one tick.
+     * @param delta the tick duration in seconds
+     */
+    public void tick(float delta) {
+        map.step(camera, delta);
+        FrameProfiler.getInstance().endFrame();
+        ++ticks;
+    }
+
+    /**
+     * Plays every remaining frame of the given replay, one tick each, on
+     * the recorded physics substeps. This simulation must have been
+     * created from the replay seed and not have ticked yet.
+     * @param replay the replay to play
+     * @return the elapsed time in nanoseconds
+     */
+    public long replay(InputReplay replay) {
+        map.setSubsteps(replay.getSubsteps());
+        long start = TimeUtils.nanoTime();
+        while (replay.next(frame)) {
+            map.step(camera, frame);
+            FrameProfiler.getInstance().endFrame();
+            ++ticks;
+        }
+        return TimeUtils.timeSinceNanos(start);
+    }
+
+    /**
+     * Restarts this simulation map in place, with plains and bonus
+     * placed from the given seed.
+     * @param seed the map random generator new seed
+     */
+    public void restart(long seed) {
+        map.restart(seed);
+        map.setMoving(true);
+        ticks = 0;
+    }
+
+    /**
+     * Advances this simulation the given number of ticks.
+     * @param count number of ticks to run
+     * @param delta each tick duration in seconds
+     * @return the elapsed time in nanoseconds
+     */
+    public long run(int count, float delta) {
+        long start = TimeUtils.nanoTime();
+        for (int i = 0; i < count; ++i)
+            tick(delta);
+        return TimeUtils.timeSinceNanos(start);
+    }
+
+    /**
+     * Gets this simulation map.
+     * @return this map
+     */
+    public MapController getMap() {
+        return map;
+    }
+
+    /**
+     * Gets this simulation camera.
+     * @return this camera
+     */
+    public PerspectiveCamera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Gets this simulation number of ticks done.
+     * @return this ticks
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Disposes of this simulation map.
+     */
+    public void dispose() {
+        map.dispose();
+        map.reset();
+    }
+}
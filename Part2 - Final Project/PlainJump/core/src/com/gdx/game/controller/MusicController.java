@@ -0,0 +1,201 @@
+package com.gdx.game.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.gdx.game.model.GameModel;
+
+/**
+ * This class plays the background music, streamed from its file so only a
+ * few decoded buffers are held at any time. The track is opened on the
+ * first play, unless it was queued on an asset manager with
+ * {@link #queue(AssetManager)}, and kept across runs until disposed.
+ */
+public class MusicController {
+
+    /**
+     * This used music
+     */
+    private static final String MUSIC_PATH = "sounds/surrealchaseloop.mp3";
+
+    /**
+     * this Singleton Instance
+     */
+    private static MusicController instance = null;
+
+    /**
+     * This music possible states
+     */
+    public enum MusicState {
+        STOP,
+        PAUSE,
+        PLAY;
+    }
+
+    /**
+     * This music, null until first played
+     */
+    private Music music;
+
+    /**
+     * This asset manager loading the music, null if none
+     */
+    private AssetManager assets;
+
+    /**
+     * This music ownership flag, set when owned by assets
+     */
+    private boolean managed;
+
+    /**
+     * This current music state
+     */
+    private MusicState musicState;
+
+    /**
+     * This music status flag
+     */
+    private boolean musicOnFlag;
+
+    private MusicController() {
+        musicState = MusicState.STOP;
+        musicOnFlag = true;
+    }
+
+    /**
+     * Gets MusicController Singleton instance.
+     * @return this MusicController
+     */
+    public static MusicController getInstance() {
+        if(instance == null)
+            instance = new MusicController();
+        return instance;
+    }
+
+    /**
+     * Resets this Singleton instance.
+     */
+    public void reset() {
+        instance = null;
+    }
+
+    /**
+     * Queues this music on the given asset manager, which keeps it until it is disposed.
+     * @param assets the asset manager loading the music
+     */
+    public void queue(AssetManager assets) {
+        this.assets = assets;
+        assets.load(MUSIC_PATH, Music.class);
+    }
+
+    /**
+     * Plays this music from the start, if the music is on.
+     */
+    public void play() {
+        if(!musicOnFlag)
+            return;
+        if(music == null) {
+            managed = assets != null && assets.isLoaded(MUSIC_PATH, Music.class);
+            if(managed)
+                music = assets.get(MUSIC_PATH, Music.class);
+            else
+                music = Gdx.audio.newMusic(Gdx.files.internal(MUSIC_PATH));
+            music.setLooping(true);
+        }
+        music.stop();
+        music.play();
+        musicState = MusicState.PLAY;
+    }
+
+    /**
+     * Stops this music.
+     */
+    public void stop() {
+        if(musicState == MusicState.STOP)
+            return;
+        music.stop();
+        musicState = MusicState.STOP;
+    }
+
+    /**
+     * Pauses this music.
+     */
+    public void pause() {
+        if(musicState != MusicState.PLAY)
+            return;
+        music.pause();
+        musicState = MusicState.PAUSE;
+    }
+
+    /**
+     * Resumes this music where it was paused.
+     */
+    public void resume() {
+        if(musicState != MusicState.PAUSE)
+            return;
+        music.play();
+        musicState = MusicState.PLAY;
+    }
+
+    /**
+     * Mutes this music if playing, otherwise plays it, saving the
+     * new music status flag to GameModel.
+     */
+    public void toggle() {
+        switch (musicState) {
+            case PLAY:
+                pause();
+                setMusicOnFlag(false);
+                break;
+            case PAUSE:
+                setMusicOnFlag(true);
+                resume();
+                break;
+            case STOP:
+                setMusicOnFlag(true);
+                play();
+                break;
+        }
+        GameModel.getInstance().setMusicOnFlag(musicOnFlag);
+    }
+
+    /**
+     * Retrieves the value of this MusicController musicState.
+     * @return this MusicController musicState
+     */
+    public MusicState getMusicState() {
+        return musicState;
+    }
+
+    /**
+     * Retrieves the value of this MusicController musicOnFlag.
+     * @return this MusicController musicOnFlag
+     */
+    public boolean isMusicOnFlag() {
+        return musicOnFlag;
+    }
+
+    /**
+     * Set the value of this MusicController musicOnFlag.
+     * @param musicOnFlag the new value of musicOnFlag
+     */
+    public void setMusicOnFlag(boolean musicOnFlag) {
+        this.musicOnFlag = musicOnFlag;
+    }
+
+    /**
+     * Disposes of this music, closing its stream, unless owned by the
+     * asset manager it was queued on.
+     */
+    public void dispose() {
+        if(music != null) {
+            if(managed)
+                music.stop();
+            else
+                music.dispose();
+            music = null;
+        }
+        assets = null;
+        musicState = MusicState.STOP;
+    }
+}
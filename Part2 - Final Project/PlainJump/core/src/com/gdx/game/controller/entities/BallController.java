@@ -1,8 +1,8 @@
 package com.gdx.game.controller.entities;
 
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.physics.bullet.collision.btSphereShape;
 import com.gdx.game.model.entities.BallModel;
+import com.gdx.game.utils.ShapeRegistry;
 import com.gdx.game.view.entities.BallView;
 
 /**
@@ -16,6 +16,21 @@ public class BallController extends EntityController{
      */
     private static BallController instance = null;
 
+    /**
+     * ball movement frontal speed on the start of a run
+     */
+    private static final float START_FRONTAL_SPEED = 0.3f;
+
+    /**
+     * ball motion in a physics step, in ball radii, past which the step is swept
+     */
+    public static final float CCD_MOTION_RADII = 1f;
+
+    /**
+     * ball swept sphere radius, in ball radii, under one so resting contacts are not swept
+     */
+    public static final float CCD_SWEPT_RADII = 0.9f;
+
     /**
      * ball movement lateral speed
      */
@@ -36,21 +51,68 @@ public class BallController extends EntityController{
      * ball placement on plains
      */
     private int currentPlainIndex;
+    /**
+     * ball continuous collision detection flag
+     */
+    private boolean ccd;
+    /**
+     * scratch vector for forces, impulses and translations applied to the ball
+     */
+    private final Vector3 scratch = new Vector3();
 
 
     private BallController() {
         super();
         BallModel ballModel = new BallModel();
         setModel(ballModel);
-        setView(new BallView(((BallModel)getModel()).getDiameter(), getModel().getInitialColor(),new btSphereShape(ballModel.getDiameter()/2),1f));
+        setView(new BallView(((BallModel)getModel()).getDiameter(), getModel().getInitialColor(),ShapeRegistry.getInstance().getSphere(ballModel.getDiameter()/2),1f));
         lateralSpeed = 1.5f;
-        frontalSpeed = 0.3f;
+        frontalSpeed = START_FRONTAL_SPEED;
         jumpImpulse = 1000f;
         rotationDegree = (frontalSpeed/(ballModel.getDiameter() * (float)Math.PI))*360;
         currentPlainIndex = 0;
+        setCcd(true);
         updatePosition();
     }
 
+    /**
+     * Enables or disables the continuous collision detection of this ball.
+     * When enabled, a physics step that moves the ball further than
+     * CCD_MOTION_RADII is swept with a sphere, so a fast ball stops on the
+     * plains it would otherwise step through, without more substeps.
+     * @param ccd true to enable, false to disable
+     */
+    public void setCcd(boolean ccd) {
+        this.ccd = ccd;
+        float radius = ((BallModel) getModel()).getDiameter() / 2;
+        getBody().setCcdMotionThreshold(ccd ? radius * CCD_MOTION_RADII : 0);
+        getBody().setCcdSweptSphereRadius(ccd ? radius * CCD_SWEPT_RADII : 0);
+    }
+
+    /**
+     * Indicates if the continuous collision detection of this ball is enabled.
+     * @return this ccd
+     */
+    public boolean isCcd() {
+        return ccd;
+    }
+
+    /**
+     * Restarts this ball for a new run, back on its start position,
+     * standing still, with its start speed and color.
+     */
+    @Override
+    public void restart() {
+        super.restart();
+        getBody().setLinearVelocity(Vector3.Zero);
+        getBody().setAngularVelocity(Vector3.Zero);
+        getBody().clearForces();
+        getBody().activate();
+        frontalSpeed = START_FRONTAL_SPEED;
+        currentPlainIndex = 0;
+        setCurrentColor(getInitialColor());
+    }
+
     /**
      * Restarts this instance.
      */
@@ -72,11 +134,11 @@ public class BallController extends EntityController{
      * Makes this ball jump.
      */
     public void jump() {
-        updatePosition();
         if (canJump()) {
-            getBody().applyCentralForce(new Vector3(0, jumpImpulse, 0));
-            getModel().setPosY(getBody().getCenterOfMassPosition().y);
-            getModel().setPosZ(getBody().getCenterOfMassPosition().z);
+            getBody().applyCentralForce(scratch.set(0, jumpImpulse, 0));
+            Vector3 position = getBody().getCenterOfMassPosition();
+            getModel().setPosY(position.y);
+            getModel().setPosZ(position.z);
         }
     }
 
@@ -84,29 +146,27 @@ public class BallController extends EntityController{
      * Make this ball go left.
      */
     public void moveLeft() {
-        updatePosition();
-       getBody().applyCentralImpulse(new Vector3(-lateralSpeed,0,0));
-       getModel().setPosX(getBody().getCenterOfMassPosition().x);
+        getBody().applyCentralImpulse(scratch.set(-lateralSpeed,0,0));
+        getModel().setPosX(getBody().getCenterOfMassPosition().x);
     }
 
     /**
      * Make this ball go right.
      */
     public void moveRight() {
-        updatePosition();
-        getBody().applyCentralImpulse(new Vector3(lateralSpeed,0,0));
+        getBody().applyCentralImpulse(scratch.set(lateralSpeed,0,0));
         getModel().setPosX(getBody().getCenterOfMassPosition().x);
     }
 
     /**
      * Make this ball move to the front.
+     * The translation and rotation are applied to the view transform,
+     * which is then set on the body in a single update.
      */
     public void moveFront() {
-        updatePosition();
-        getBody().translate(new Vector3(0,0,-frontalSpeed));
         getWorldTransform();
-        getView().getBodyInstance().transform.rotate(new Vector3(1,0,0),rotationDegree);
-        getBody().setWorldTransform(getView().getBodyInstance().transform);
+        getView().getBodyInstance().transform.trn(0,0,-frontalSpeed).rotate(Vector3.X,rotationDegree);
+        setWorldTransform();
         updateModel();
         updateFalling();
     }
@@ -1,8 +1,8 @@
 package com.gdx.game.controller.entities;
 
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.physics.bullet.collision.btSphereShape;
 import com.gdx.game.model.entities.BonusModel;
+import com.gdx.game.utils.ShapeRegistry;
 import com.gdx.game.view.entities.BonusView;
 
 import java.util.Random;
@@ -17,6 +17,11 @@ public class BonusController extends EntityController{
      */
     private boolean visible = true;
 
+    /**
+     * scratch vector for this bonus translations
+     */
+    private final Vector3 translation = new Vector3();
+
     /**
      * Creates a new bonus with said type.
      * @param type this bonus type of advantage
@@ -25,7 +30,7 @@ public class BonusController extends EntityController{
         super();
         BonusModel bonusModel = new BonusModel(type);
         setModel(bonusModel);
-        setView(new BonusView(bonusModel.getId(),bonusModel.getInitialColor(),bonusModel.getDiameter(),new btSphereShape(bonusModel.getDiameter()/2),0f));
+        setView(new BonusView(bonusModel.getId(),bonusModel.getInitialColor(),bonusModel.getDiameter(),ShapeRegistry.getInstance().getSphere(bonusModel.getDiameter()/2),0f));
         updatePosition();
     }
 
@@ -43,6 +48,7 @@ public class BonusController extends EntityController{
      */
     public void setVisible(boolean visible) {
         this.visible = visible;
+        getView().setVisible(visible);
     }
 
 
@@ -52,10 +58,10 @@ public class BonusController extends EntityController{
      * the y position is always set to 1
      * the z position is an int between -500 and 0 plus a given z coordinate
      * @param ballCurrentZ represents a z position from which the bonus placement will be done
+     * @param rand random generator used for placement
      */
-    public void placeBonus(float ballCurrentZ)
+    public void placeBonus(float ballCurrentZ, Random rand)
     {
-        Random rand = new Random();
         int max = 16;
         int min = -16;
         int r = min + rand.nextInt(max*2 + 1);
@@ -63,6 +69,19 @@ public class BonusController extends EntityController{
         getView().moveModelInstance(r, 1,-z+ballCurrentZ);
         setWorldTransform();
         updateModel();
+        getView().markTeleported();
+    }
+
+    /**
+     * Restarts this bonus for a new run, visible and placed as on a new map.
+     * @param ballCurrentZ represents a z position from which the bonus placement will be done
+     * @param rand random generator used for placement
+     */
+    public void restart(float ballCurrentZ, Random rand)
+    {
+        restart();
+        setVisible(true);
+        placeBonus(ballCurrentZ, rand);
     }
 
     /**
@@ -71,16 +90,17 @@ public class BonusController extends EntityController{
      * the y position is always set to 0
      * the z position is an int between -500 and 0 plus a given z coordinate
      * @param ballCurrentZ represents a z position from which the bonus placement will be done
+     * @param rand random generator used for placement
      */
-    public void replaceBonus(float ballCurrentZ)
+    public void replaceBonus(float ballCurrentZ, Random rand)
     {
         setVisible(true);
-        Random rand = new Random();
         int max = 16;
         int min = -16;
         int r = min + rand.nextInt(max*2 + 1);
         int z = rand.nextInt(500);
-        getBody().translate(new Vector3(r,0,-z+ballCurrentZ));
+        getBody().translate(translation.set(r,0,-z+ballCurrentZ));
         updateModel();
+        getView().markTeleported();
     }
 }
@@ -1,7 +1,7 @@
 package com.gdx.game.controller.entities;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.bullet.dynamics.btRigidBody;
 import com.gdx.game.model.entities.EntityModel;
 import com.gdx.game.view.entities.EntityView;
@@ -128,9 +128,22 @@ public abstract class EntityController {
      */
     public void updateModel()
     {
-        getModel().setPosX(getBody().getCenterOfMassPosition().x);
-        getModel().setPosY(getBody().getCenterOfMassPosition().y);
-        getModel().setPosZ(getBody().getCenterOfMassPosition().z);
+        Vector3 position = getBody().getCenterOfMassPosition();
+        getModel().setPosX(position.x);
+        getModel().setPosY(position.y);
+        getModel().setPosZ(position.z);
+    }
+
+    /**
+     * Restarts this entity, placing it back on its model start position
+     * without continuity from where it was.
+     */
+    public void restart() {
+        model.restart();
+        view.getBodyInstance().transform.idt();
+        updatePosition();
+        setWorldTransform();
+        view.markTeleported();
     }
 
     /**
@@ -166,7 +179,7 @@ public abstract class EntityController {
      */
     public void setCurrentColor(Color color)
     {
-       ((ColorAttribute)getView().getBodyInstance().materials.get(0).get(ColorAttribute.Diffuse)).color.set(color);
+        getView().setColor(color);
         model.setCurrentColor(color);
     }
 }
@@ -0,0 +1,109 @@
+package com.gdx.game.controller.entities;
+
+/**
+ * This class maps the user value of every rigid body in the world
+ * to its controller and type, using the user value as index so
+ * the contact listener can resolve entities in constant time.
+ */
+public class EntityRegistry {
+
+    /**
+     * Possible registered entity types
+     */
+    public enum Type {
+        BALL,
+        PLAIN,
+        BONUS;
+    }
+
+    /**
+     * this registry initial capacity
+     */
+    private static final int INITIAL_CAPACITY = 128;
+
+    /**
+     * this registry controllers, indexed by user value
+     */
+    private EntityController[] controllers;
+
+    /**
+     * this registry types, indexed by user value
+     */
+    private Type[] types;
+
+    /**
+     * this registry number of registered entities, also the next user value
+     */
+    private int size;
+
+    /**
+     * Creates an empty registry.
+     */
+    public EntityRegistry() {
+        controllers = new EntityController[INITIAL_CAPACITY];
+        types = new Type[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Registers the given controller with the given type.
+     * @param controller the entity controller
+     * @param type the entity type
+     * @return the user value assigned to the entity body
+     */
+    public int register(EntityController controller, Type type) {
+        if (size == controllers.length)
+            grow();
+        controllers[size] = controller;
+        types[size] = type;
+        return size++;
+    }
+
+    private void grow() {
+        EntityController[] newControllers = new EntityController[controllers.length * 2];
+        Type[] newTypes = new Type[types.length * 2];
+        System.arraycopy(controllers, 0, newControllers, 0, size);
+        System.arraycopy(types, 0, newTypes, 0, size);
+        controllers = newControllers;
+        types = newTypes;
+    }
+
+    /**
+     * Gets the controller registered with the given user value.
+     * @param userValue the entity body user value
+     * @return the entity controller, null if none
+     */
+    public EntityController get(int userValue) {
+        if (userValue < 0 || userValue >= size)
+            return null;
+        return controllers[userValue];
+    }
+
+    /**
+     * Gets the type registered with the given user value.
+     * @param userValue the entity body user value
+     * @return the entity type, null if none
+     */
+    public Type getType(int userValue) {
+        if (userValue < 0 || userValue >= size)
+            return null;
+        return types[userValue];
+    }
+
+    /**
+     * Gets the number of registered entities.
+     * @return this size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all registered entities.
+     */
+    public void clear() {
+        for (int i = 0; i < size; ++i)
+            controllers[i] = null;
+        size = 0;
+    }
+}
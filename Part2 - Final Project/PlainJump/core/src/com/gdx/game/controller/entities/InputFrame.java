@@ -0,0 +1,109 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * This class holds the input state polled on a frame, along with the
+ * frame delta, so a frame can be applied to the map from live input,
+ * a recording or a replay alike.
+ */
+public class InputFrame {
+
+    /**
+     * LEFT key pressed flag
+     */
+    public static final int LEFT = 1;
+
+    /**
+     * RIGHT key pressed flag
+     */
+    public static final int RIGHT = 1 << 1;
+
+    /**
+     * SPACE key pressed flag
+     */
+    public static final int SPACE = 1 << 2;
+
+    /**
+     * screen touched flag
+     */
+    public static final int TOUCH = 1 << 3;
+
+    /**
+     * this frame pressed keys and touch flags
+     */
+    private int keys;
+
+    /**
+     * this frame gyroscope rotation around the X axis
+     */
+    private float gyroscopeX;
+
+    /**
+     * this frame delta, in seconds
+     */
+    private float delta;
+
+    /**
+     * Sets this frame from the current input and graphics delta.
+     */
+    public void poll() {
+        keys = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.LEFT))
+            keys |= LEFT;
+        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT))
+            keys |= RIGHT;
+        if (Gdx.input.isKeyPressed(Input.Keys.SPACE))
+            keys |= SPACE;
+        if (Gdx.input.isTouched())
+            keys |= TOUCH;
+        gyroscopeX = Gdx.input.getGyroscopeX();
+        delta = Gdx.graphics.getDeltaTime();
+    }
+
+    /**
+     * Sets this frame values.
+     * @param keys this keys new value
+     * @param gyroscopeX this gyroscopeX new value
+     * @param delta this delta new value
+     */
+    public void set(int keys, float gyroscopeX, float delta) {
+        this.keys = keys;
+        this.gyroscopeX = gyroscopeX;
+        this.delta = delta;
+    }
+
+    /**
+     * Indicates if the given key flag is set on this frame.
+     * @param key the key flag
+     * @return true if pressed, false otherwise
+     */
+    public boolean isPressed(int key) {
+        return (keys & key) != 0;
+    }
+
+    /**
+     * Retrieve the value of this frame keys flags.
+     * @return this keys
+     */
+    public int getKeys() {
+        return keys;
+    }
+
+    /**
+     * Retrieve the value of this frame gyroscope X.
+     * @return this gyroscopeX
+     */
+    public float getGyroscopeX() {
+        return gyroscopeX;
+    }
+
+    /**
+     * Retrieve the value of this frame delta.
+     * @return this delta
+     */
+    public float getDelta() {
+        return delta;
+    }
+}
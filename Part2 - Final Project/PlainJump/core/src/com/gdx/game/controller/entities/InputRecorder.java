@@ -0,0 +1,127 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This class records the input frames of a run, along with the level
+ * seed, into a compact binary stream that {@link InputReplay} plays back.
+ * The stream starts with a header (magic, version, seed and, on version 2,
+ * the physics substeps per tick) followed by one record per frame: a byte
+ * of key flags, the frame delta and, only when the gyroscope moved, its X
+ * rotation. Runs on a single substep are written as version 1, without
+ * substeps.
+ */
+public class InputRecorder {
+
+    /**
+     * recording stream magic number
+     */
+    static final int MAGIC = 0x504A4952;
+
+    /**
+     * recording stream format version
+     */
+    static final byte VERSION = 2;
+
+    /**
+     * recording stream format version of runs on a single physics substep,
+     * whose header has no substeps
+     */
+    static final byte SINGLE_SUBSTEP_VERSION = 1;
+
+    /**
+     * frame record flag set when the gyroscope X rotation follows the delta
+     */
+    static final int GYROSCOPE = 1 << 7;
+
+    /**
+     * this recorder bytes
+     */
+    private ByteArrayOutputStream bytes;
+
+    /**
+     * this recorder stream, writing to bytes
+     */
+    private DataOutputStream out;
+
+    /**
+     * this recorder number of frames recorded
+     */
+    private int frames;
+
+    /**
+     * Creates a recorder of a run generated from the given seed, on a
+     * single physics substep per tick.
+     * @param seed the run level seed
+     */
+    public InputRecorder(long seed) {
+        this(seed, 1);
+    }
+
+    /**
+     * Creates a recorder of a run generated from the given seed.
+     * @param seed the run level seed
+     * @param substeps the run physics substeps per tick
+     */
+    public InputRecorder(long seed, int substeps) {
+        bytes = new ByteArrayOutputStream(16 * 1024);
+        out = new DataOutputStream(bytes);
+        frames = 0;
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(substeps == 1 ? SINGLE_SUBSTEP_VERSION : VERSION);
+            out.writeLong(seed);
+            if (substeps != 1)
+                out.writeByte(substeps);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Appends the given frame to this recording.
+     * @param frame the frame to record
+     */
+    public void record(InputFrame frame) {
+        int flags = frame.getKeys();
+        if (frame.getGyroscopeX() != 0)
+            flags |= GYROSCOPE;
+        try {
+            out.writeByte(flags);
+            out.writeFloat(frame.getDelta());
+            if ((flags & GYROSCOPE) != 0)
+                out.writeFloat(frame.getGyroscopeX());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        ++frames;
+    }
+
+    /**
+     * Gets the number of frames recorded.
+     * @return this frames
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets this recording stream.
+     * @return the recorded bytes
+     */
+    public byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes this recording stream to the given file.
+     * @param file the file to write
+     */
+    public void save(FileHandle file) {
+        file.writeBytes(toByteArray(), false);
+    }
+}
@@ -0,0 +1,118 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * This class plays back a stream written by {@link InputRecorder},
+ * giving the seed of the recorded run and then its frames in order.
+ */
+public class InputReplay {
+
+    /**
+     * this replay stream
+     */
+    private DataInputStream in;
+
+    /**
+     * this replay recorded run level seed
+     */
+    private long seed;
+
+    /**
+     * this replay recorded run physics substeps per tick
+     */
+    private int substeps;
+
+    /**
+     * this replay number of frames played
+     */
+    private int frames;
+
+    /**
+     * Creates a replay of the given recording file.
+     * @param file the recording file
+     */
+    public InputReplay(FileHandle file) {
+        this(file.readBytes());
+    }
+
+    /**
+     * Creates a replay of the given recording stream.
+     * @param bytes the recorded bytes
+     */
+    public InputReplay(byte[] bytes) {
+        in = new DataInputStream(new ByteArrayInputStream(bytes));
+        frames = 0;
+        try {
+            if (in.readInt() != InputRecorder.MAGIC)
+                throw new IllegalArgumentException("not an input recording");
+            byte version = in.readByte();
+            if (version != InputRecorder.VERSION && version != InputRecorder.SINGLE_SUBSTEP_VERSION)
+                throw new IllegalArgumentException("unsupported input recording version " + version);
+            seed = in.readLong();
+            substeps = version == InputRecorder.SINGLE_SUBSTEP_VERSION ? 1 : in.readUnsignedByte();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("truncated input recording", e);
+        }
+    }
+
+    /**
+     * Retrieve the value of this replay recorded seed.
+     * @return this seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieve the value of this replay recorded physics substeps per tick.
+     * @return this substeps
+     */
+    public int getSubsteps() {
+        return substeps;
+    }
+
+    /**
+     * Gets the number of frames played.
+     * @return this frames
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Indicates if there are frames left to play.
+     * @return true if there is a next frame, false otherwise
+     */
+    public boolean hasNext() {
+        try {
+            return in.available() > 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sets the given frame to the next recorded frame.
+     * @param frame the frame to set
+     * @return true if set, false if there are no frames left
+     */
+    public boolean next(InputFrame frame) {
+        if (!hasNext())
+            return false;
+        try {
+            int flags = in.readUnsignedByte();
+            float delta = in.readFloat();
+            float gyroscopeX = (flags & InputRecorder.GYROSCOPE) != 0 ? in.readFloat() : 0;
+            frame.set(flags & ~InputRecorder.GYROSCOPE, gyroscopeX, delta);
+        } catch (IOException e) {
+            return false;
+        }
+        ++frames;
+        return true;
+    }
+}
@@ -2,7 +2,7 @@ package com.gdx.game.controller.entities;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.math.Vector3;
@@ -23,14 +23,18 @@ import com.badlogic.gdx.physics.bullet.dynamics.btSequentialImpulseConstraintSol
 import com.badlogic.gdx.physics.bullet.linearmath.btIDebugDraw;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.TimeUtils;
-import com.badlogic.gdx.utils.Timer;
-import com.gdx.game.model.GameModel;
 import com.gdx.game.model.entities.BallModel;
 import com.gdx.game.model.entities.BonusModel;
 import com.gdx.game.model.entities.MapModel;
 import com.gdx.game.model.entities.PlainModel;
+import com.gdx.game.utils.FrameProfiler;
+import com.gdx.game.utils.GameRandom;
+import com.gdx.game.utils.QualityGovernor;
+import com.gdx.game.utils.TransformSnapshot;
+import com.gdx.game.view.ModelCache;
 import com.gdx.game.view.entities.BallView;
 import com.gdx.game.view.entities.BonusView;
+import com.gdx.game.view.entities.EntityView;
 import com.gdx.game.view.entities.MapView;
 import com.gdx.game.view.entities.PlainView;
 
@@ -43,9 +47,29 @@ import java.util.Random;
 public class MapController  {
 
     /**
-     * This used music
+     * This frame profiler export file
      */
-    private static final String SOUND_PATH = "sounds/surrealchaseloop.mp3";
+    private static final String PROFILER_CSV_PATH = "data/profiler.csv";
+
+    /**
+     * This last run input recording file
+     */
+    public static final String RECORDING_PATH = "data/last-run.pjr";
+
+    /**
+     * Simulated time between score updates, in seconds
+     */
+    private static final float SCORE_INTERVAL = 0.00001f;
+
+    /**
+     * Fixed duration of a logic and physics tick, in seconds
+     */
+    public static final float TICK = 1f / 60f;
+
+    /**
+     * Maximum frame delta simulated, limiting the ticks run on a single frame
+     */
+    private static final float MAX_FRAME_DELTA = 5 * TICK;
 
     /**
      * this Singleton Instance
@@ -88,6 +112,26 @@ public class MapController  {
      * This map last position of camera on map tracked on Z axis
      */
     private float lastZUpdated;
+    /**
+     * This map registry of the rigid bodies added to the world, by user value
+     */
+    private EntityRegistry registry;
+    /**
+     * This map headless flag, set when there is no view, audio or input
+     */
+    private boolean headless;
+    /**
+     * This map source of randomness, from which every placement is seeded
+     */
+    private GameRandom random;
+    /**
+     * This map random generator for bonus placement
+     */
+    private Random bonusRandom;
+    /**
+     * This map generator of the upcoming plains rows
+     */
+    private PlainRowGenerator generator;
 
 
     /**
@@ -116,6 +160,31 @@ public class MapController  {
      */
     private float cameraBallDistance;
 
+    /**
+     * This map simulated time not yet ticked, in seconds
+     */
+    private float accumulator = 0;
+
+    /**
+     * This camera position on the last tick, following the ball
+     */
+    private Vector3 cameraPosition = new Vector3();
+
+    /**
+     * This map number of ticks run
+     */
+    private long ticks = 0;
+
+    /**
+     * This map entities state, published after every tick for the view
+     */
+    private TransformSnapshot snapshot;
+
+    /**
+     * This map simulation thread, null when ticking on the render thread
+     */
+    private PhysicsThread physicsThread;
+
 
 
     /**
@@ -129,88 +198,121 @@ public class MapController  {
     private DebugDrawer debugDrawer;
 
     /**
-     * This start time
+     * This simulated time since the last score update, in seconds
      */
-    private long startTime = TimeUtils.nanoTime() ;
+    private float scoreTime = 0;
 
     /**
-     * Represents the speed increment to this ball
+     * This current frame input
      */
-    private float speedIncrease = 0.05f;
+    private InputFrame input;
 
     /**
-     * This map setting for allowing game movement pause
+     * This input recorder, null when not recording
      */
-    private boolean moving = true;
+    private InputRecorder recorder;
 
     /**
-     * This music
+     * This input replay, null when playing from live input
      */
-    private Sound bgMusic;
+    private InputReplay replay;
 
     /**
-     * This current music state
+     * This map number of physics substeps per tick requested, used from the next run
      */
-    private MusicState musicState;
+    private int substeps = 1;
 
     /**
-     * This music status flag
+     * This map number of physics substeps per tick of the current run
      */
-    private boolean musicOnFlag;
+    private int runSubsteps = 1;
 
     /**
-     * This music possible states
+     * Represents the speed increment to this ball
      */
-    public enum MusicState {
-        STOP,
-        PAUSE,
-        PLAY;
-    }
+    private float speedIncrease = 0.05f;
+
+    /**
+     * This map setting for allowing game movement pause
+     */
+    private volatile boolean moving = false;
+
+    /**
+     * This frame profiler
+     */
+    private FrameProfiler profiler;
+
+    /**
+     * This profiler of the ticks run on the physics thread, handed to the view with the snapshot
+     */
+    private FrameProfiler threadProfiler;
+
+    /**
+     * This profiler of the ticks, the frame profiler unless ticked on the physics thread
+     */
+    private FrameProfiler tickProfiler;
 
     class ControllerContactListener extends ContactListener {
         @Override
         public boolean onContactAdded (int userValue0, int partId0, int index0, int userValue1, int partId1, int index1) {
-            boolean isBonus = false;
-            if (userValue1 != 0)
-            {
-                for (BonusController bc : bonus) {
-                    if (userValue1 == bc.getBody().getUserValue())
-                    {
-                        bc.setVisible(false);
+            tickProfiler.count(FrameProfiler.Counter.CONTACTS, 1);
+            int other = otherUserValue(userValue0, userValue1);
+            EntityRegistry.Type type = registry.getType(other);
+            if (type == null)
+                return true;
+            switch (type) {
+                case BONUS:
+                    BonusController bc = (BonusController) registry.get(other);
+                    bc.setVisible(false);
+                    if (((BonusModel)bc.getModel()).isImmune())
+                        model.setImmune(true);
+                    else
                         model.setScoreMultiplier(((BonusModel)bc.getModel()).getValue());
-                        model.setImmune(((BonusModel)bc.getModel()).isImmune());
-                        isBonus = true;
-                        ball.setCurrentColor(bc.getInitialColor());
-                        break;
-                    }
-                }
-
-                if (!isBonus) {
-                    ball.setCurrentPlainIndex(userValue1);
-                }
-                ball.setJump(true);
-
+                    ball.setCurrentColor(bc.getInitialColor());
+                    ball.setJump(true);
+                    break;
+                case PLAIN:
+                    ball.setCurrentPlainIndex(other);
+                    ball.setJump(true);
+                    break;
+                default:
+                    break;
             }
             return true;
         }
 
         @Override
         public void onContactEnded(int userValue0, int userValue1) {
-            if (userValue1 != 0)
+            tickProfiler.count(FrameProfiler.Counter.CONTACTS, 1);
+            if (registry.getType(otherUserValue(userValue0, userValue1)) != EntityRegistry.Type.BALL)
             {
                 ball.setJump(false);
             }
         }
+
+        private int otherUserValue(int userValue0, int userValue1) {
+            return registry.getType(userValue0) == EntityRegistry.Type.BALL ? userValue1 : userValue0;
+        }
     }
 
-    private MapController() {
+    private MapController(boolean headless, GameRandom random) {
 
+        this.headless = headless;
+        this.random = random;
+        input = new InputFrame();
+        bonusRandom = random.split(GameRandom.Stream.BONUS);
         model = MapModel.getInstance();
-        view = MapView.getInstance();
+        profiler = FrameProfiler.getInstance();
+        threadProfiler = new FrameProfiler();
+        tickProfiler = profiler;
+        if(!headless)
+            view = MapView.getInstance();
         contactListener = new ControllerContactListener();
 
         lastZUpdated = 0;
 
+        registry = new EntityRegistry();
+
         cameraBallDistance = 15;
 
         buildWorld();
@@ -221,13 +323,13 @@ public class MapController  {
 
         buildBonus();
 
-        bgMusic = Gdx.audio.newSound(Gdx.files.internal(SOUND_PATH));
-
-        bgMusic.stop();
+        followBall();
 
-        musicState = MusicState.STOP;
-
-        musicOnFlag = true;
+        if(!headless) {
+            snapshot = new TransformSnapshot(registry.size());
+            view.setSnapshot(snapshot);
+            publish(TimeUtils.nanoTime());
+        }
     }
 
     private void addPlains() {
@@ -244,57 +346,61 @@ public class MapController  {
     }
 
     private void placePlains() {
-        Random rand = new Random();
-        int loc = 0;
-        for(PlainController pc : plains) {
-
-            int r1 = rand.nextInt(model.getPositionsX().length);
+        for (int lvl = 0; lvl < plainLevels; ++lvl) {
+            PlainRowGenerator.Row row = generator.next();
+            int plain = 0;
+            for (int it = lvl; it < plains.size; it += plainLevels) {
+                PlainController pc = plains.get(it);
 
-            int r2 = rand.nextInt(model.getPositionsY().length);
+                float plainDepth = (((PlainModel) (pc.getModel())).getDepth());
 
-            float plainDepth = (((PlainModel) (pc.getModel())).getDepth());
-
-            if (loc <= 1) {
-                r1 = (model.getPositionsX().length-1)/2;
-                r2 = (model.getPositionsY().length-1)/2;
-            }
-            pc.setPos(model.getPositionsX()[r1], model.getPositionsY()[r2], -loc * plainDepth);
-            ++loc;
-            if(loc%plainLevels == 0) {
-                loc = 0;
+                pc.setPos(model.getPositionsX()[row.getX(plain)], model.getPositionsY()[row.getY(plain)], -lvl * plainDepth);
+                ++plain;
             }
+            generator.recycle(row);
         }
     }
 
-    private void placePlainsLevel() {
-
-        Random rand = new Random();
+    /**
+     * Moves the next level of plains to the front of the map,
+     * on the next row taken from this map generator.
+     */
+    void placePlainsLevel() {
 
         int lvl = positioningLevel%(plains.size/plainsPerLevel);
+        PlainRowGenerator.Row row = generator.next();
+        int plain = 0;
         for(int it = lvl; it < plains.size; it += plainLevels) {
             PlainController pc = plains.get(it);
 
-            int r1 = rand.nextInt(model.getPositionsX().length);
-
-            int r2 = rand.nextInt(model.getPositionsY().length);
-
             float plainDepth = (((PlainModel) (pc.getModel())).getDepth());
 
-            pc.moveToPos(model.getPositionsX()[r1] - pc.getModel().getPosX(),
-                    model.getPositionsY()[r2] - pc.getModel().getPosY(),
+            pc.moveToPos(model.getPositionsX()[row.getX(plain)] - pc.getModel().getPosX(),
+                    model.getPositionsY()[row.getY(plain)] - pc.getModel().getPosY(),
                     -plainLevels*plainDepth);
+            pc.getView().markTeleported();
+            ++plain;
         }
+        generator.recycle(row);
         ++positioningLevel;
     }
 
     private void addPlainsToWorld()
     {
-        for (PlainController pc : plains)
+        if(!headless) {
+            PlainModel plainModel = (PlainModel) plains.get(0).getModel();
+            view.setPlainRows(plainLevels, plainsPerLevel, plainModel.getWidth(), plainModel.getHeight(), plainModel.getDepth());
+        }
+
+        for (int it = 0; it < plains.size; ++it)
         {
+            PlainController pc = plains.get(it);
             pc.getBody().proceedToTransform(pc.getView().getBodyInstance().transform);
-            pc.getBody().setUserValue(view.getInstances().size);
+            int slot = registry.register(pc, EntityRegistry.Type.PLAIN);
+            pc.getBody().setUserValue(slot);
             pc.getBody().setCollisionFlags( pc.getBody().getCollisionFlags() | btCollisionObject.CollisionFlags.CF_KINEMATIC_OBJECT);
-            view.addInstance((PlainView) (pc.getView()));
+            if(!headless)
+                view.addPlain(slot, it % plainLevels, it / plainLevels);
             world.addRigidBody(pc.getBody());
             pc.getBody().setActivationState(Collision.DISABLE_DEACTIVATION);
         }
@@ -317,6 +423,9 @@ public class MapController  {
 
         addPlains();
 
+        generator = new PlainRowGenerator(random.split(GameRandom.Stream.LEVEL), plainsPerLevel, model.getPositionsX().length, model.getPositionsY().length, 2);
+        generator.start();
+
         placePlains();
 
         addPlainsToWorld();
@@ -328,9 +437,12 @@ public class MapController  {
 
         ball.getBody().proceedToTransform(ball.getView().getBodyInstance().transform);
 
-        view.addInstance((BallView) (ball.getView()));
+        int slot = registry.register(ball, EntityRegistry.Type.BALL);
 
-        ball.getBody().setUserValue(0);
+        if(!headless)
+            view.addInstance((BallView) (ball.getView()), slot);
+
+        ball.getBody().setUserValue(slot);
 
         ball.getBody().setCollisionFlags(ball.getBody().getCollisionFlags() | btCollisionObject.CollisionFlags.CF_CUSTOM_MATERIAL_CALLBACK);
 
@@ -364,7 +476,7 @@ public class MapController  {
 
     private void placeBonus(){
         for (BonusController bc : bonus)
-           bc.placeBonus(ball.getModel().getPosZ());
+           bc.placeBonus(ball.getModel().getPosZ(), bonusRandom);
     }
 
 
@@ -373,9 +485,11 @@ public class MapController  {
        for (BonusController bc : bonus)
        {
            bc.getBody().proceedToTransform(bc.getView().getBodyInstance().transform);
-           bc.getBody().setUserValue(view.getInstances().size);
+           int slot = registry.register(bc, EntityRegistry.Type.BONUS);
+           bc.getBody().setUserValue(slot);
            bc.getBody().setCollisionFlags( bc.getBody().getCollisionFlags() | btCollisionObject.CollisionFlags.CF_NO_CONTACT_RESPONSE);
-           view.addInstance((BonusView) (bc.getView()));
+           if(!headless)
+               view.addInstance((BonusView) (bc.getView()), slot);
            world.addRigidBody(bc.getBody());
            bc.getBody().setActivationState(Collision.DISABLE_DEACTIVATION);
        }
@@ -385,7 +499,7 @@ public class MapController  {
      * Creates this MapController
      */
     public void create() {
-        startTime = TimeUtils.nanoTime();
+        scoreTime = 0;
         debugDrawer = new DebugDrawer();
         world.setDebugDrawer(debugDrawer);
         debugDrawer.setDebugMode(btIDebugDraw.DebugDrawModes.DBG_MAX_DEBUG_DRAW_MODE);
@@ -397,9 +511,31 @@ public class MapController  {
      */
     public void render(PerspectiveCamera camera) {
 
-        update(camera);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3))
+            profiler.toggle();
+
+        profiler.begin(FrameProfiler.Phase.INPUT);
+        if(replay == null || !replay.next(input)) {
+            replay = null;
+            input.poll();
+        }
+        if(recorder != null && moving)
+            recorder.record(input);
+        if(ball.isFalling())
+            view.setGameOverView();
+        if(physicsThread != null)
+            physicsThread.setInput(input);
+        profiler.end(FrameProfiler.Phase.INPUT);
+
+        if(physicsThread == null) {
+            update(input.getDelta(), input);
+            if(!moving)
+                publish(TimeUtils.nanoTime());
+        }
         view.render(camera, moving);
 
+        profiler.endFrame();
+
         //a cena do debug
     /* debugDrawer.begin(camera);
         world.debugDrawWorld();
@@ -407,94 +543,315 @@ public class MapController  {
 
     }
 
-    private void update(PerspectiveCamera camera) {
-        if(!ball.isFalling()) {
-            handleInputs();
-        } else {
-            view.setGameOverView();
-        }
+    /**
+     * Advances this MapController simulation by the given delta without
+     * polling input or rendering, used when running headless.
+     * @param camera perspective camera following the ball
+     * @param delta the elapsed time in seconds
+     */
+    public void step(PerspectiveCamera camera, float delta) {
+        update(delta, null);
+        followCamera(camera);
+    }
 
+    /**
+     * Advances this MapController simulation by the given frame, applying
+     * its input as if it had been polled, without rendering.
+     * @param camera perspective camera following the ball
+     * @param frame the frame input and delta
+     */
+    public void step(PerspectiveCamera camera, InputFrame frame) {
+        update(frame.getDelta(), frame);
+        followCamera(camera);
+    }
+
+    private void followCamera(PerspectiveCamera camera) {
+        camera.position.set(cameraPosition);
+        camera.update();
+    }
+
+    /**
+     * Runs as many fixed ticks as the accumulated frame deltas allow,
+     * applying the frame input on each. Each tick is published with the
+     * time it is due to be shown, so the view draws between the last two
+     * ticks by the time left.
+     */
+    private void update(float frameDelta, InputFrame frame) {
         if(!moving)
             return;
 
-        final float delta = Math.min(1f / 30f, Gdx.graphics.getDeltaTime());
+        accumulator += Math.min(MAX_FRAME_DELTA, frameDelta);
+        while (accumulator >= TICK) {
+            if(frame != null && !ball.isFalling()) {
+                profiler.begin(FrameProfiler.Phase.INPUT);
+                handleInputs(frame);
+                profiler.end(FrameProfiler.Phase.INPUT);
+            }
+            tick();
+            accumulator -= TICK;
+            if(!headless)
+                publish(TimeUtils.nanoTime() - (long) (accumulator * 1e9f));
+        }
+    }
+
+    /**
+     * Runs a tick from the physics thread, if this map is moving, and
+     * publishes the resulting state.
+     * @param frame the latest frame input
+     * @param time the time the tick is due to be shown, in nanoseconds
+     */
+    void simulate(InputFrame frame, long time) {
+        threadProfiler.setEnabled(profiler.isEnabled());
+        if(moving) {
+            if(!ball.isFalling())
+                handleInputs(frame);
+            tick();
+        }
+        publish(time);
+    }
+
+    private void publish(long time) {
+        TransformSnapshot.Frame frame = snapshot.getBack();
+        frame.tick = ticks;
+        frame.time = time;
+        frame.setCamera(cameraPosition.x, cameraPosition.y, cameraPosition.z);
+        threadProfiler.getTotals(frame.phases, frame.counters);
+        for (int slot = 0; slot < registry.size(); ++slot) {
+            EntityView ev = registry.get(slot).getView();
+            frame.set(slot, ev.getBodyInstance().transform, ev.getColor(), ev.isVisible(), ev.getRevision());
+        }
+        snapshot.publish();
+    }
+
+    private void tick() {
+        final float delta = TICK;
+
+        tickProfiler.begin(FrameProfiler.Phase.PHYSICS);
+        stepWorld(delta);
+        tickProfiler.end(FrameProfiler.Phase.PHYSICS);
 
-        world.stepSimulation(delta, 5, 1f / 60f);
+        if(tickProfiler.isEnabled())
+            tickProfiler.count(FrameProfiler.Counter.ACTIVE_BODIES, countActiveBodies());
 
-        updateBonus(camera);
+        tickProfiler.begin(FrameProfiler.Phase.BONUS);
+        updateBonus();
+        tickProfiler.end(FrameProfiler.Phase.BONUS);
 
-        if (TimeUtils.timeSinceNanos(startTime) > 10000 && !ball.isFalling())
+        scoreTime += delta;
+        if (scoreTime > SCORE_INTERVAL && !ball.isFalling())
         {
             if (model.updateScore(1))
                 ball.incLinearVelocity(speedIncrease);
-            startTime = TimeUtils.nanoTime();
+            scoreTime = 0;
         }
 
-        final float delay = 0.1f;
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                if (model.incCounter(delay))
-                    ball.setCurrentColor(ball.getInitialColor());
-            }
-        }, delay);
+        if (model.updateEffects(delta))
+            ball.setCurrentColor(ball.getInitialColor());
 
+        tickProfiler.begin(FrameProfiler.Phase.BALL);
         updateBall();
+        tickProfiler.end(FrameProfiler.Phase.BALL);
+
+        tickProfiler.begin(FrameProfiler.Phase.PLAINS);
+        int stalls = generator.getStalls();
+        updatePlains();
+        tickProfiler.end(FrameProfiler.Phase.PLAINS);
+        tickProfiler.count(FrameProfiler.Counter.ROW_STALLS, generator.getStalls() - stalls);
 
-        updatePlains(camera);
+        followBall();
+        ++ticks;
+    }
 
-        camera.position.x = ball.getModel().getPosX();
+    private void followBall() {
+        cameraPosition.x = ball.getModel().getPosX();
         if(ball.getModel().getPosY() >= 0) {
-            camera.position.y = ball.getModel().getPosY()+cameraBallDistance/3;
+            cameraPosition.y = ball.getModel().getPosY()+cameraBallDistance/3;
         } else {
-            camera.position.y = cameraBallDistance/3;
+            cameraPosition.y = cameraBallDistance/3;
         }
-        camera.position.z = ball.getModel().getPosZ()+cameraBallDistance;
-        camera.update();
+        cameraPosition.z = ball.getModel().getPosZ()+cameraBallDistance;
+    }
+
+    private int countActiveBodies() {
+        int active = ball.getBody().isActive() ? 1 : 0;
+        for (PlainController pc : plains)
+            if (pc.getBody().isActive())
+                ++active;
+        for (BonusController bc : bonus)
+            if (bc.getBody().isActive())
+                ++active;
+        return active;
+    }
+
+    /**
+     * Steps this map physics world.
+     * @param delta the elapsed time in seconds
+     */
+    void stepWorld(float delta) {
+        if(runSubsteps <= 1) {
+            world.stepSimulation(delta, 0);
+            return;
+        }
+        float substep = delta / runSubsteps;
+        for (int i = 0; i < runSubsteps; ++i)
+            world.stepSimulation(substep, 0);
+    }
+
+    /**
+     * Sets the number of physics substeps per tick. As it changes the
+     * simulation, and so recordings, it is used from the next run on,
+     * or right away if the current run has not ticked yet and is neither
+     * recorded nor replayed.
+     * @param substeps this substeps new value
+     */
+    public void setSubsteps(int substeps) {
+        this.substeps = substeps;
+        if(ticks == 0 && physicsThread == null && recorder == null && replay == null)
+            runSubsteps = substeps;
     }
 
-    private void handleInputs() {
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+    /**
+     * Gets the number of physics substeps per tick of the current run.
+     * @return this runSubsteps
+     */
+    public int getSubsteps() {
+        return runSubsteps;
+    }
+
+    /**
+     * Sets the quality this map is simulated and drawn at.
+     * @param level the quality level
+     */
+    public void setQuality(QualityGovernor.Level level) {
+        setSubsteps(level.getSubsteps());
+        if(headless)
+            return;
+        view.setBallDivisions(level.getBallDivisions());
+        view.setDrawnRows(level.getPlainRows());
+        view.setRenderScale(level.getRenderScale());
+    }
+
+    private void handleInputs(InputFrame frame) {
+        if (frame.isPressed(InputFrame.LEFT)) {
             moveLeft();
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+        if (frame.isPressed(InputFrame.RIGHT)) {
             moveRight();
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
+        if (frame.isPressed(InputFrame.SPACE)) {
             jump();
         }
-        if (Gdx.input.getGyroscopeX() > 0.2) {
+        if (frame.getGyroscopeX() > 0.2) {
             moveRight();
         }
-        if (Gdx.input.getGyroscopeX() < -0.2) {
+        if (frame.getGyroscopeX() < -0.2) {
             moveLeft();
         }
-        if (Gdx.input.isTouched()) {
+        if (frame.isPressed(InputFrame.TOUCH)) {
             jump();
         }
     }
 
-    private void updatePlains(PerspectiveCamera camera) {
+    /**
+     * Starts recording this map input frames, from the current frame on.
+     */
+    public void startRecording() {
+        if(physicsThread != null)
+            return;
+        recorder = new InputRecorder(getSeed(), runSubsteps);
+    }
+
+    /**
+     * Stops recording this map input frames, writing the recording to the given file.
+     * @param file the file to write, or null to discard the recording
+     */
+    public void stopRecording(FileHandle file) {
+        if(recorder == null)
+            return;
+        if(file != null && recorder.getFrames() > 0)
+            recorder.save(file);
+        recorder = null;
+    }
+
+    /**
+     * Sets the replay whose frames replace live input and frame deltas
+     * until it ends. This map must have been created from the replay seed.
+     * @param replay the replay to play, null to play from live input
+     */
+    public void setReplay(InputReplay replay) {
+        this.replay = replay;
+        if(replay != null)
+            runSubsteps = replay.getSubsteps();
+    }
+
+    /**
+     * Indicates if this map is playing a replay.
+     * @return true if input comes from a replay, false otherwise
+     */
+    public boolean isReplaying() {
+        return replay != null;
+    }
+
+    /**
+     * Sets this map simulation to run on its own thread or on the render
+     * thread. Replays and recordings need the simulation on the render
+     * thread, ticked from the recorded frame deltas, so this map is kept
+     * on the render thread while either is set.
+     * @param threaded true to run the simulation on its own thread
+     */
+    public void setPhysicsThreaded(boolean threaded) {
+        if(threaded && (headless || replay != null || recorder != null))
+            return;
+        if(threaded && physicsThread == null) {
+            accumulator = 0;
+            tickProfiler = threadProfiler;
+            physicsThread = new PhysicsThread(this);
+            physicsThread.start();
+        } else if(!threaded && physicsThread != null) {
+            physicsThread.stop();
+            physicsThread = null;
+            tickProfiler = profiler;
+        }
+    }
+
+    /**
+     * Indicates if this map simulation runs on its own thread.
+     * @return true if threaded, false if ticked on the render thread
+     */
+    public boolean isPhysicsThreaded() {
+        return physicsThread != null;
+    }
+
+    /**
+     * Recycles the plains left behind the camera.
+     */
+    void updatePlains() {
 
         float plainDepth = (((PlainModel) (plains.get(0).getModel())).getDepth());
 
-        if(camera.position.z <= -plainDepth + lastZUpdated) {
-            lastZUpdated = camera.position.z;
+        if(cameraPosition.z <= -plainDepth + lastZUpdated) {
+            lastZUpdated = cameraPosition.z;
             placePlainsLevel();
         }
     }
 
-    private void updateBonus(PerspectiveCamera camera)
+    /**
+     * Replaces the bonus caught or left behind the camera.
+     */
+    void updateBonus()
     {
         for (BonusController bc : bonus)
         {
-            if (bc.isVisible() == false || bc.getBody().getCenterOfMassPosition().z > camera.position.z)
-                bc.replaceBonus(ball.getModel().getPosZ());
+            if (bc.isVisible() == false || bc.getBody().getCenterOfMassPosition().z > cameraPosition.z)
+                bc.replaceBonus(ball.getModel().getPosZ(), bonusRandom);
             bc.getWorldTransform();
         }
     }
 
-    private void updateBall()
+    /**
+     * Moves this ball forward, replacing it if it fell while immune.
+     */
+    void updateBall()
     {
         ball.setFrontalLinearVelocity();
         ball.moveFront();
@@ -512,15 +869,27 @@ public class MapController  {
      * Disposes of this MapController.
      */
     public void dispose() {
-        bgMusic.dispose();
-        view.dispose();
+        setPhysicsThreaded(false);
+        generator.stop();
+
+        if(profiler.getFrames() > 0)
+            profiler.exportCsv(Gdx.files.local(PROFILER_CSV_PATH));
+
+        if(!headless)
+            view.dispose();
 
         for(PlainController pc : plains) {
             pc.dispose();
         }
 
+        for(BonusController bc : bonus) {
+            bc.dispose();
+        }
+
         ball.dispose();
 
+        ModelCache.getInstance().dispose();
+
         world.dispose();
         constraintSolver.dispose();
         broadphase.dispose();
@@ -572,39 +941,110 @@ public class MapController  {
 
     private void replaceBall()
     {
-        float x = plains.get(ball.getCurrentPlainIndex()-1).getBody().getCenterOfMassPosition().x;
-        float z = plains.get(ball.getCurrentPlainIndex()-1).getBody().getCenterOfMassPosition().z;
-        float y = plains.get(ball.getCurrentPlainIndex()-1).getBody().getCenterOfMassPosition().y;
+        if (registry.getType(ball.getCurrentPlainIndex()) != EntityRegistry.Type.PLAIN)
+            return;
+        Vector3 position = registry.get(ball.getCurrentPlainIndex()).getBody().getCenterOfMassPosition();
+        float x = position.x;
+        float z = position.z;
+        float y = position.y;
         ball.getView().getBodyInstance().transform.setToTranslation(x,y+((BallModel)ball.getModel()).getDiameter(),z);
         ball.setWorldTransform();
         ball.updateModel();
+        ball.getView().markTeleported();
+    }
+
+    /**
+     * Gets this map contact listener.
+     * @return this contactListener
+     */
+    ControllerContactListener getContactListener() {
+        return contactListener;
+    }
+
+    /**
+     * Gets this map registry of the entities in the world.
+     * @return this registry
+     */
+    EntityRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Restarts this map for a new run on the same world, bodies and view,
+     * with plains and bonus placed from a new seed. The map stays still
+     * until set moving, so the run starts from the restarted state.
+     */
+    public void restart() {
+        restart(new GameRandom());
+    }
+
+    /**
+     * Restarts this map for a new run on the same world, bodies and view,
+     * with plains and bonus placed from the given seed as on a new map,
+     * still until set moving.
+     * @param seed this map random generator new seed
+     */
+    public void restart(long seed) {
+        restart(new GameRandom(seed));
+    }
+
+    private void restart(GameRandom random) {
+        setPhysicsThreaded(false);
+        moving = false;
+        stopRecording(null);
+        replay = null;
+
+        this.random = random;
+        bonusRandom = random.split(GameRandom.Stream.BONUS);
+        generator.restart(random.split(GameRandom.Stream.LEVEL));
+
+        model.restart();
+
+        world.removeRigidBody(ball.getBody());
+        ball.restart();
+        world.addRigidBody(ball.getBody());
+
+        positioningLevel = plainLevels;
+        lastZUpdated = 0;
+        placePlains();
+        for (PlainController pc : plains)
+            pc.getView().markTeleported();
+
+        for (BonusController bc : bonus)
+            bc.restart(ball.getModel().getPosZ(), bonusRandom);
+
+        accumulator = 0;
+        scoreTime = 0;
+        ticks = 0;
+        runSubsteps = substeps;
+        followBall();
+
+        if(!headless) {
+            view.restart();
+            publish(TimeUtils.nanoTime());
+        }
     }
 
     /**
      * Restarts this MapController
      */
     public void reset() {
+        setPhysicsThreaded(false);
+        generator.stop();
+        registry.clear();
         model.reset();
-        view.reset();
         ball.reset();
         this.instance = null;
-        bgMusic.stop();
+        if(!headless)
+            view.reset();
     }
 
     /**
-     * Sets this map moving, updating this map bgMusic accordingly
+     * Sets this map moving
      * @param moving this map moving new value
      */
     public void setMoving(boolean moving) {
         this.moving = moving;
-
-        if(moving && musicOnFlag) {
-            bgMusic.loop();
-            musicState = MusicState.PLAY;
-        } else {
-            bgMusic.stop();
-            musicState = MusicState.STOP;
-        }
     }
 
     /**
@@ -613,67 +1053,87 @@ public class MapController  {
      */
     public static MapController getInstance() {
         if(instance == null)
-            instance = new MapController();
+            instance = new MapController(false, new GameRandom());
         return instance;
     }
 
     /**
-     * Retrieves the value of this MapController model score count.
-     * @return this MapController model score count
+     * Gets MapController Singleton instance, creating it with plains
+     * and bonus placed from the given seed if it does not exist yet.
+     * @param seed this map random generator seed
+     * @return this MapController
      */
-    public Integer getScore() {
-        return model.getScoreCount();
+    public static MapController getInstance(long seed) {
+        if(instance == null)
+            instance = new MapController(false, new GameRandom(seed));
+        return instance;
     }
 
     /**
-     * Sets this plains initial color.
-     * @param color this model color new value
+     * Gets MapController Singleton instance, creating it without view,
+     * audio or input if it does not exist yet.
+     * @return this MapController
      */
-    public void setPlainsInitialColor(Color color)
-    {
-        for(PlainController pc : plains)
-            pc.setInitialColor(color);
+    public static MapController getHeadlessInstance() {
+        if(instance == null)
+            instance = new MapController(true, new GameRandom());
+        return instance;
     }
 
     /**
-     * Sets this ball initial color.
-     * @param color this model color new value
+     * Gets MapController Singleton instance, creating it without view,
+     * audio or input and with plains and bonus placed from the given seed
+     * if it does not exist yet.
+     * @param seed this map random generator seed
+     * @return this MapController
      */
-    public void setBallInitialColor(Color color)
-    {
-         ball.setInitialColor(color);
+    public static MapController getHeadlessInstance(long seed) {
+        if(instance == null)
+            instance = new MapController(true, new GameRandom(seed));
+        return instance;
+    }
+
+    /**
+     * Retrieves the seed this map level and bonus placement were generated from.
+     * @return this MapController random seed
+     */
+    public long getSeed() {
+        return random.getSeed();
     }
 
     /**
-     * Resumes this MapController bgMusic
+     * Indicates if this MapController runs without view, audio or input.
+     * @return this MapController headless
      */
-    public void resumeBgMusic() {
-        bgMusic.resume();
-        musicState = MusicState.PLAY;
+    public boolean isHeadless() {
+        return headless;
     }
 
     /**
-     * Plays this MapController bgMusic
+     * Retrieves the value of this MapController model score count.
+     * @return this MapController model score count
      */
-    public void startBgMusic() {
-        bgMusic.loop();
-        musicState = MusicState.PLAY;
+    public Integer getScore() {
+        return model.getScoreCount();
     }
 
     /**
-     * Pauses this MapController bgMusic.
+     * Sets this plains initial color.
+     * @param color this model color new value
      */
-    public void pauseBgMusic() {
-        bgMusic.pause();
-        musicState = MusicState.PAUSE;
+    public void setPlainsInitialColor(Color color)
+    {
+        for(PlainController pc : plains)
+            pc.setInitialColor(color);
     }
 
     /**
-     * Retrieves the value of this MapController musicState.
-     * @return this MapControlle musicState
+     * Sets this ball initial color.
+     * @param color this model color new value
      */
-    public MusicState getMusicState() {
-        return musicState;
+    public void setBallInitialColor(Color color)
+    {
+         ball.setInitialColor(color);
     }
 
     /**
@@ -685,16 +1145,6 @@ public class MapController  {
         view.setScreenColor(color);
     }
 
-    /**
-     * Set the value of this MapController musicOnFlag.
-     * Set and save GameModel musicOnFlag value.
-     * @param musicOnFlag the new value of musicOnFlag
-     */
-    public void setMusicOnFlag(boolean musicOnFlag) {
-        this.musicOnFlag = musicOnFlag;
-        GameModel.getInstance().setMusicOnFlag(musicOnFlag);
-    }
-
     /**
      * Gets minimum plain positioning on Y axis
      * @return the minimum value ([0]) on this map model positionsY
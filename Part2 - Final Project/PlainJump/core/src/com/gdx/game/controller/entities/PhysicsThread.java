@@ -0,0 +1,122 @@
+package com.gdx.game.controller.entities;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class runs the map simulation on its own thread, one fixed tick
+ * at a time, so stepping Bullet never delays a rendered frame. The render
+ * thread only hands it the latest input and reads the published state.
+ */
+class PhysicsThread implements Runnable {
+
+    /**
+     * nanoseconds between ticks
+     */
+    static final long TICK_NANOS = (long) (MapController.TICK * 1e9f);
+
+    /**
+     * maximum number of ticks run to catch up after a stall
+     */
+    static final int MAX_CATCH_UP = 5;
+
+    /**
+     * this thread simulated map
+     */
+    private final MapController map;
+
+    /**
+     * this thread latest input, keys on the high half and gyroscope X bits on the low half
+     */
+    private final AtomicLong input;
+
+    /**
+     * this thread input applied on each tick, only used by the worker
+     */
+    private final InputFrame frame;
+
+    /**
+     * this thread worker
+     */
+    private Thread worker;
+
+    /**
+     * this thread running flag
+     */
+    private volatile boolean running;
+
+    /**
+     * Creates a physics thread simulating the given map.
+     * @param map the map to simulate
+     */
+    PhysicsThread(MapController map) {
+        this.map = map;
+        input = new AtomicLong(0);
+        frame = new InputFrame();
+    }
+
+    /**
+     * Starts this physics thread.
+     */
+    void start() {
+        if (running)
+            return;
+        running = true;
+        worker = new Thread(this, "physics");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops this physics thread, waiting for the tick in progress to finish.
+     */
+    void stop() {
+        if (!running)
+            return;
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    /**
+     * Indicates if this physics thread is running.
+     * @return this running
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sets the input applied from the next tick on.
+     * @param frame the latest polled frame
+     */
+    void setInput(InputFrame frame) {
+        input.set(((long) frame.getKeys() << 32) | (Float.floatToIntBits(frame.getGyroscopeX()) & 0xFFFFFFFFL));
+    }
+
+    @Override
+    public void run() {
+        long deadline = TimeUtils.nanoTime();
+        while (running) {
+            long now = TimeUtils.nanoTime();
+            if (now < deadline) {
+                LockSupport.parkNanos(this, deadline - now);
+                continue;
+            }
+            if (now - deadline > MAX_CATCH_UP * TICK_NANOS)
+                deadline = now - MAX_CATCH_UP * TICK_NANOS;
+
+            long value = input.get();
+            frame.set((int) (value >>> 32), Float.intBitsToFloat((int) value), MapController.TICK);
+            map.simulate(frame, deadline);
+            deadline += TICK_NANOS;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.gdx.game.controller.entities;
 
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.physics.bullet.collision.btBoxShape;
 import com.gdx.game.model.entities.PlainModel;
+import com.gdx.game.utils.ShapeRegistry;
 import com.gdx.game.view.entities.PlainView;
 
 /**
@@ -33,7 +32,7 @@ public class PlainController extends EntityController{
 
         setModel(plainModel);
 
-        setView(new PlainView(this.id, plainModel.getWidth(), plainModel.getHeight(), plainModel.getDepth(),plainModel.getInitialColor(), new btBoxShape(new Vector3(plainModel.getWidth()/2, plainModel.getHeight()/2, plainModel.getDepth()/2)),0f));
+        setView(new PlainView(this.id, plainModel.getWidth(), plainModel.getHeight(), plainModel.getDepth(),plainModel.getInitialColor(), ShapeRegistry.getInstance().getBox(plainModel.getWidth()/2, plainModel.getHeight()/2, plainModel.getDepth()/2),0f));
 
         updatePosition();
     }
@@ -0,0 +1,261 @@
+package com.gdx.game.controller.entities;
+
+import com.gdx.game.utils.SpscQueue;
+
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class generates the layout of the upcoming plain rows on a
+ * background thread, keeping a bounded number of rows ready so the
+ * render thread only has to dequeue them and move its plains.
+ * Rows are generated in order from a single random generator, so the
+ * sequence of rows only depends on its seed.
+ */
+public class PlainRowGenerator implements Runnable {
+
+    /**
+     * Layout of a row of plains, as indexes on the map positions.
+     */
+    public static class Row {
+
+        /**
+         * this row plains indexes on the map X positions
+         */
+        private final int[] x;
+
+        /**
+         * this row plains indexes on the map Y positions
+         */
+        private final int[] y;
+
+        private Row(int plainsPerRow) {
+            x = new int[plainsPerRow];
+            y = new int[plainsPerRow];
+        }
+
+        /**
+         * Gets the given plain index on the map X positions.
+         * @param plain the plain position on this row
+         * @return the X position index
+         */
+        public int getX(int plain) {
+            return x[plain];
+        }
+
+        /**
+         * Gets the given plain index on the map Y positions.
+         * @param plain the plain position on this row
+         * @return the Y position index
+         */
+        public int getY(int plain) {
+            return y[plain];
+        }
+    }
+
+    /**
+     * this generator number of rows generated ahead
+     */
+    public static final int CAPACITY = 32;
+
+
+    /**
+     * this generator rows ready to be applied, in order
+     */
+    private final SpscQueue<Row> ready;
+
+    /**
+     * this generator rows already applied, free to be generated again
+     */
+    private final SpscQueue<Row> free;
+
+    /**
+     * this generator random generator, only used by the worker
+     */
+    private Random random;
+
+    /**
+     * this generator number of plains per row
+     */
+    private final int plainsPerRow;
+
+    /**
+     * this generator number of X positions
+     */
+    private final int positionsX;
+
+    /**
+     * this generator number of Y positions
+     */
+    private final int positionsY;
+
+    /**
+     * this generator number of first rows placed on the center
+     */
+    private final int centeredRows;
+
+    /**
+     * this generator number of rows generated, only used by the worker
+     */
+    private long generated;
+
+    /**
+     * this generator number of times a row was requested before being ready
+     */
+    private int stalls;
+
+    /**
+     * this generator worker thread
+     */
+    private Thread worker;
+
+    /**
+     * this generator running flag
+     */
+    private volatile boolean running;
+
+    /**
+     * Creates a generator of rows with the given number of plains,
+     * placed on positionsX * positionsY possible positions.
+     * @param random the random generator used by the worker
+     * @param plainsPerRow number of plains per row
+     * @param positionsX number of X positions
+     * @param positionsY number of Y positions
+     * @param centeredRows number of first rows with every plain on the center position
+     */
+    public PlainRowGenerator(Random random, int plainsPerRow, int positionsX, int positionsY, int centeredRows) {
+        this.random = random;
+        this.plainsPerRow = plainsPerRow;
+        this.positionsX = positionsX;
+        this.positionsY = positionsY;
+        this.centeredRows = centeredRows;
+        ready = new SpscQueue<Row>(CAPACITY);
+        free = new SpscQueue<Row>(CAPACITY);
+        for (int i = 0; i < CAPACITY; ++i)
+            free.offer(new Row(plainsPerRow));
+        generated = 0;
+        stalls = 0;
+    }
+
+    /**
+     * Starts this generator worker thread.
+     */
+    public void start() {
+        if (running)
+            return;
+        running = true;
+        worker = new Thread(this, "plain-row-generator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops this generator worker thread, waiting for it to finish.
+     */
+    public void stop() {
+        if (!running)
+            return;
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    /**
+     * Restarts this generator from the first row, with the given random
+     * generator, keeping its rows. Rows not yet applied are discarded.
+     * @param random the random generator used by the worker
+     */
+    public void restart(Random random) {
+        stop();
+        Row row;
+        while ((row = ready.poll()) != null)
+            free.offer(row);
+        this.random = random;
+        generated = 0;
+        stalls = 0;
+        start();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            Row row = free.poll();
+            if (row == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            generate(row);
+            ready.offer(row);
+        }
+    }
+
+    private void generate(Row row) {
+        for (int plain = 0; plain < plainsPerRow; ++plain) {
+            int r1 = random.nextInt(positionsX);
+            int r2 = random.nextInt(positionsY);
+            if (generated < centeredRows) {
+                r1 = (positionsX - 1) / 2;
+                r2 = (positionsY - 1) / 2;
+            }
+            row.x[plain] = r1;
+            row.y[plain] = r2;
+        }
+        ++generated;
+    }
+
+    /**
+     * Takes the next row, waiting for the worker if it is not ready yet.
+     * The row must be given back with {@link #recycle(Row)} once applied.
+     * @return the next row
+     */
+    public Row next() {
+        Row row = ready.poll();
+        if (row != null)
+            return row;
+        ++stalls;
+        while ((row = ready.poll()) == null) {
+            if (!running)
+                throw new IllegalStateException("plain row generator is not running");
+            Thread.yield();
+        }
+        return row;
+    }
+
+    /**
+     * Gives back a row taken with {@link #next()}, so it can be generated again.
+     * @param row the applied row
+     */
+    public void recycle(Row row) {
+        free.offer(row);
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * Gets the number of rows ready to be taken.
+     * @return this ready size
+     */
+    public int getReady() {
+        return ready.size();
+    }
+
+    /**
+     * Gets the number of times a row was requested before being ready.
+     * @return this stalls
+     */
+    public int getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Indicates if this generator worker is running.
+     * @return this running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -7,9 +7,11 @@ import com.badlogic.gdx.utils.Base64Coder;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.gdx.game.utils.SettingsStore;
 
 /**
- * This class is responsible for loading and saving the ball, plains and background colours as well as the high score
+ * This class is responsible for loading and saving the ball, plains and background colours as well as the high score.
+ * Settings are saved behind the game, on the thread of its {@link SettingsStore}.
  */
 public class GameModel {
 
@@ -48,6 +50,33 @@ public class GameModel {
      */
     private boolean musicOnFlag;
 
+    /**
+     * this GameModel store writing the settings file, created on the first save
+     */
+    private transient SettingsStore store;
+
+    /**
+     * Settings of a GameModel as saved, encoded on the thread of its store.
+     */
+    private static class Settings implements SettingsStore.Contents {
+
+        /**
+         * this settings copy of the GameModel saved
+         */
+        private final GameModel model;
+
+        Settings(GameModel model) {
+            this.model = model;
+        }
+
+        @Override
+        public String encode() {
+            Json json = new Json();
+            json.setOutputType(JsonWriter.OutputType.json);
+            return Base64Coder.encodeString(json.toJson(model));
+        }
+    }
+
     private GameModel() {
         highscore = 0;
         ballColor = Color.ORANGE;
@@ -56,6 +85,14 @@ public class GameModel {
         musicOnFlag = true;
     }
 
+    private GameModel(GameModel model) {
+        highscore = model.highscore;
+        ballColor = new Color(model.ballColor);
+        plainColor = new Color(model.plainColor);
+        backgroundColor = new Color(model.backgroundColor);
+        musicOnFlag = model.musicOnFlag;
+    }
+
     /*******************GET FUNCTIONS*******************/
 
     /**
@@ -160,13 +197,37 @@ public class GameModel {
 
     /**
      * Save this class to a json file, encoded for game preferences saving.
+     * A copy of the settings is encoded and written on a background
+     * thread, see {@link #flush()}.
      */
     public void saveSettings() {
-        Json json = new Json();
-        json.setOutputType(JsonWriter.OutputType.json);
-        FileHandle file = Gdx.files.local(HS_DATA_FILE);
-        System.out.println(json.toJson(this));
-        file.writeString(Base64Coder.encodeString(json.toJson(this)), false);
+        getStore().submit(new Settings(new GameModel(this)));
+    }
+
+    /**
+     * Waits until the settings saved so far are written to the file.
+     */
+    public void flush() {
+        if(store == null)
+            return;
+        store.flush();
+        if(store.getError() != null)
+            Gdx.app.error("settings", "cannot save " + HS_DATA_FILE, store.getError());
+    }
+
+    /**
+     * Writes the settings saved so far and stops the thread writing them.
+     */
+    public void dispose() {
+        flush();
+        if(store != null)
+            store.dispose();
+    }
+
+    private SettingsStore getStore() {
+        if(store == null)
+            store = new SettingsStore(Gdx.files.local(HS_DATA_FILE).file());
+        return store;
     }
 
     /**
@@ -174,6 +235,7 @@ public class GameModel {
      * accordingly in order to load game preferences.
      */
     public void loadSettings() {
+        flush();
         Json json = new Json();
         FileHandle file = Gdx.files.local(HS_DATA_FILE);
         GameModel tmp;
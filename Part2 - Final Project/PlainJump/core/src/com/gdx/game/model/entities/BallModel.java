@@ -111,4 +111,14 @@ public class BallModel extends EntityModel{
         this.falling = falling;
     }
 
+    /**
+     * Restarts this BallModel, placing it back on its start position, able to jump and not falling.
+     */
+    @Override
+    public void restart() {
+        super.restart();
+        jump = true;
+        falling = false;
+    }
+
 }
@@ -0,0 +1,145 @@
+package com.gdx.game.model.entities;
+
+/**
+ * This class keeps track of the remaining duration of timed effects,
+ * such as bonus multipliers and immunity, advancing them from the frame
+ * delta. Several effects can be active at once, each one notifying its
+ * own listener when it expires.
+ */
+public class EffectTimer {
+
+    /**
+     * Possible timed effects
+     */
+    public enum Effect {
+        MULTIPLIER,
+        IMMUNITY;
+    }
+
+    /**
+     * Listener notified when an effect expires.
+     */
+    public interface Listener {
+        /**
+         * Called when the given effect expires.
+         * @param effect the expired effect
+         */
+        void onExpired(Effect effect);
+    }
+
+    /**
+     * this timer effects, cached to avoid values() copies
+     */
+    private static final Effect[] EFFECTS = Effect.values();
+
+    /**
+     * This EffectTimer remaining duration of each effect, 0 if not active
+     */
+    private float[] remaining;
+
+    /**
+     * This EffectTimer listener of each effect
+     */
+    private Listener[] listeners;
+
+    /*******************CONSTRUCTORS*******************/
+
+    /**
+     * Creates an EffectTimer with no active effects.
+     */
+    public EffectTimer() {
+        remaining = new float[EFFECTS.length];
+        listeners = new Listener[EFFECTS.length];
+    }
+
+    /*******************GET FUNCTIONS*******************/
+
+    /**
+     * Indicates if the given effect is active.
+     * @param effect the effect
+     * @return true if the effect has remaining duration, false otherwise
+     */
+    public boolean isActive(Effect effect) {
+        return remaining[effect.ordinal()] > 0;
+    }
+
+    /**
+     * Indicates if any effect is active.
+     * @return true if at least one effect has remaining duration, false otherwise
+     */
+    public boolean isAnyActive() {
+        for (int i = 0; i < remaining.length; ++i)
+            if (remaining[i] > 0)
+                return true;
+        return false;
+    }
+
+    /**
+     * Retrieve the remaining duration of the given effect.
+     * @param effect the effect
+     * @return the remaining duration in seconds
+     */
+    public float getRemaining(Effect effect) {
+        return remaining[effect.ordinal()];
+    }
+
+    /*******************SET FUNCTIONS*******************/
+
+    /**
+     * Set the listener notified when the given effect expires.
+     * @param effect the effect
+     * @param listener the new listener
+     */
+    public void setListener(Effect effect, Listener listener) {
+        listeners[effect.ordinal()] = listener;
+    }
+
+    /**
+     * Starts the given effect, restarting it if already active.
+     * @param effect the effect
+     * @param duration the effect duration in seconds
+     */
+    public void start(Effect effect, float duration) {
+        remaining[effect.ordinal()] = duration;
+    }
+
+    /**
+     * Stops the given effect without notifying its listener.
+     * @param effect the effect
+     */
+    public void cancel(Effect effect) {
+        remaining[effect.ordinal()] = 0;
+    }
+
+    /*********************OTHERS***********************/
+
+    /**
+     * Advances all active effects by delta, notifying the listener
+     * of each effect that expires.
+     * @param delta the elapsed time in seconds
+     * @return true if any effect expired, false otherwise
+     */
+    public boolean update(float delta) {
+        boolean expired = false;
+        for (int i = 0; i < remaining.length; ++i) {
+            if (remaining[i] <= 0)
+                continue;
+            remaining[i] -= delta;
+            if (remaining[i] <= 0) {
+                remaining[i] = 0;
+                expired = true;
+                if (listeners[i] != null)
+                    listeners[i].onExpired(EFFECTS[i]);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Stops all effects without notifying their listeners.
+     */
+    public void reset() {
+        for (int i = 0; i < remaining.length; ++i)
+            remaining[i] = 0;
+    }
+}
@@ -21,6 +21,11 @@ public abstract class EntityModel {
      */
     private float posZ;
 
+    /**
+     * The x, y and z positions this EntityModel was created on
+     */
+    private final float[] startPos;
+
     /**
      * The initial color of this EntityModel
      */
@@ -43,6 +48,7 @@ public abstract class EntityModel {
         this.posX = x;
         this.posY = y;
         this.posZ = z;
+        this.startPos = new float[]{x, y, z};
     }
 
     /*******************GET FUNCTIONS*******************/
@@ -121,4 +127,13 @@ public abstract class EntityModel {
     public void setCurrentColor(Color currentColor) {
         this.currentColor = currentColor;
     }
+
+    /**
+     * Restarts this EntityModel, placing it back on the position it was created on.
+     */
+    public void restart() {
+        posX = startPos[0];
+        posY = startPos[1];
+        posZ = startPos[2];
+    }
 }
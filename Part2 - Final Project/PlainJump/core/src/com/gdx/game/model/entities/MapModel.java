@@ -29,16 +29,14 @@ public class MapModel {
     private int scoreVelocityLimit = 1000;
 
     /**
-     * This MapModel counter
-     * used to keep track of a bonus duration
+     * This MapModel bonus duration in seconds
      */
-    private float counter = 0;
+    private float bonusDuration = 400f / 60f;
 
     /**
-     * This MapModel counter Limit
-     * limits a bonus duration
+     * This MapModel timer of the active bonus effects
      */
-    private float counterLimit = 40;
+    private EffectTimer effects;
 
     /**
      * immune is a flag representing this MapModel current immunity
@@ -70,6 +68,20 @@ public class MapModel {
         positionsY = new float[]{0, 4};
 
         gravity = new Vector3(0, -75f, 0);
+
+        effects = new EffectTimer();
+        effects.setListener(EffectTimer.Effect.MULTIPLIER, new EffectTimer.Listener() {
+            @Override
+            public void onExpired(EffectTimer.Effect effect) {
+                scoreMultiplier = 1;
+            }
+        });
+        effects.setListener(EffectTimer.Effect.IMMUNITY, new EffectTimer.Listener() {
+            @Override
+            public void onExpired(EffectTimer.Effect effect) {
+                immune = false;
+            }
+        });
     }
 
 
@@ -91,6 +103,22 @@ public class MapModel {
         return scoreCount;
     }
 
+    /**
+     * Retrieve the value of this MapModel scoreMultiplier.
+     * @return this MapModel scoreMultiplier
+     */
+    public int getScoreMultiplier() {
+        return scoreMultiplier;
+    }
+
+    /**
+     * Retrieve this MapModel timer of the active bonus effects.
+     * @return this MapModel effects
+     */
+    public EffectTimer getEffects() {
+        return effects;
+    }
+
     /**
      * Retrieves a singleton instance of a MapModel.
      * @return the singleton instance
@@ -104,41 +132,39 @@ public class MapModel {
     /*******************SET FUNCTIONS*******************/
 
     /**
-     * Set this MapModel jump value.
+     * Set this MapModel immune value, starting the immunity
+     * effect for this bonusDuration if immune, cancelling it otherwise.
      * @param immune the new value of immune
      */
     public void setImmune(boolean immune) {
         this.immune = immune;
+        if (immune)
+            effects.start(EffectTimer.Effect.IMMUNITY, bonusDuration);
+        else
+            effects.cancel(EffectTimer.Effect.IMMUNITY);
     }
 
     /**
-     * Set this MapModel jump value.
+     * Set this MapModel scoreMultiplier value, starting the multiplier
+     * effect for this bonusDuration.
      * @param scoreMultiplier the new value of scoreMultiplier
      */
     public void setScoreMultiplier(int scoreMultiplier) {
         this.scoreMultiplier = scoreMultiplier;
-        this.counter = 0;
+        effects.start(EffectTimer.Effect.MULTIPLIER, bonusDuration);
     }
 
 
     /*********************OTHERS***********************/
 
     /**
-     * Increase this MapModel counter by the given inc.
-     * @param inc the value to increment the counter
-     * @return true if "immunity" or "score multiplication" are not default
-     * and this counter exceeded set limit, else false
+     * Advances this MapModel bonus effects by the given delta.
+     * @param delta the elapsed time in seconds
+     * @return true if an effect expired and no other is still active, else false
      */
-    public boolean incCounter(float inc)
+    public boolean updateEffects(float delta)
     {
-        this.counter += inc;
-        if (this.counter >= this.counterLimit && (scoreMultiplier != 1 || immune == true))
-        {
-            scoreMultiplier = 1;
-            immune = false;
-            return true;
-        }
-        return false;
+        return effects.update(delta) && !effects.isAnyActive();
     }
 
     /**
@@ -153,6 +179,16 @@ public class MapModel {
         return false;
     }
 
+    /**
+     * Restarts this MapModel for a new run, clearing the score and every bonus effect.
+     */
+    public void restart() {
+        scoreCount = 0;
+        scoreMultiplier = 1;
+        immune = false;
+        effects.reset();
+    }
+
     /**
      * Reset this MapModel instance (set to null)
      */
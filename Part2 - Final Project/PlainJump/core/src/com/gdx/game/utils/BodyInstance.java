@@ -2,7 +2,6 @@ package com.gdx.game.utils;
 
 import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
 import com.badlogic.gdx.physics.bullet.dynamics.btDynamicsWorld;
 import com.badlogic.gdx.physics.bullet.dynamics.btRigidBody;
@@ -21,15 +20,11 @@ public class BodyInstance extends ModelInstance implements Disposable {
 	private final btRigidBody rigidBody;
 
 	/**
-	 * Contains all the information necessary to create this BodyInstance rigidBody
+	 * Contains all the information necessary to create this BodyInstance rigidBody,
+	 * shared with all bodies with the same shape and mass
 	 */
 	private btRigidBody.btRigidBodyConstructionInfo info;
 
-	/**
-	 * Represents this BodyInstance rigidBody inertia
-	 */
-	private static Vector3 inertia = new Vector3();
-
 	/**
 	 * Represents this BodyInstance rigidBody shape
 	 */
@@ -37,6 +32,8 @@ public class BodyInstance extends ModelInstance implements Disposable {
 
 	/**
 	 * Creates a new BodyInstance with the preferred values.
+	 * The shape, preferably obtained from the {@link ShapeRegistry},
+	 * is released when this BodyInstance is disposed.
 	 * @param model necessary to create a ModelInstance
 	 * @param node necessary to create a ModelInstance
 	 * @param shape the new value of shape
@@ -45,13 +42,10 @@ public class BodyInstance extends ModelInstance implements Disposable {
 	public BodyInstance(Model model, String node, btCollisionShape shape, float mass) {
 		super(model,node);
 		this.shape = shape;
-		if (mass > 0)
-			shape.calculateLocalInertia(mass, inertia);
-		else
-			inertia.set(0, 0, 0);
-		info = new btRigidBody.btRigidBodyConstructionInfo(mass, null, shape, inertia);
+		info = ShapeRegistry.getInstance().getConstructionInfo(shape, mass);
 
 		rigidBody = new btRigidBody(info);
+		NativeTracker.getInstance().track(rigidBody, NativeTracker.Kind.RIGID_BODY);
 	}
 
 	/**
@@ -68,7 +62,8 @@ public class BodyInstance extends ModelInstance implements Disposable {
 	@Override
 	public void dispose() {
 		rigidBody.dispose();
-		shape.dispose();
-		info.dispose();
+		NativeTracker.getInstance().untrack(rigidBody);
+		ShapeRegistry.getInstance().release(info);
+		ShapeRegistry.getInstance().release(shape);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,353 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+
+/**
+ * This class records nanosecond timings of each phase of a map frame,
+ * as well as some counters, keeping a bounded history of frames from
+ * which rolling averages and percentiles are computed.
+ * When disabled every call returns immediately.
+ * A profiler only records the thread it is called from: a profiler of
+ * another thread hands its totals over, to be merged on this one.
+ */
+public class FrameProfiler {
+
+    /**
+     * Profiled phases of a frame
+     */
+    public enum Phase {
+        INPUT,
+        PHYSICS,
+        BONUS,
+        BALL,
+        PLAINS,
+        MODEL_RENDER,
+        STAGE_DRAW;
+    }
+
+    /**
+     * Counted events of a frame
+     */
+    public enum Counter {
+        CONTACTS,
+        ACTIVE_BODIES,
+        RENDERED_INSTANCES,
+        CULLED_INSTANCES,
+        RENDERED_VERTICES,
+        ROW_STALLS;
+    }
+
+    /**
+     * this profiler phases, cached to avoid values() copies
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * this profiler counters, cached to avoid values() copies
+     */
+    private static final Counter[] COUNTERS = Counter.values();
+
+    /**
+     * number of frames kept, exported to the csv file
+     */
+    private static final int HISTORY = 3600;
+
+    /**
+     * number of most recent frames used for rolling statistics
+     */
+    private static final int WINDOW = 120;
+
+    /**
+     * this Singleton Instance
+     */
+    private static FrameProfiler instance = null;
+
+    /**
+     * this profiler enabled flag
+     */
+    private volatile boolean enabled;
+
+    /**
+     * this profiler phases timings, per frame
+     */
+    private long[][] timings;
+
+    /**
+     * this profiler counters, per frame
+     */
+    private int[][] counters;
+
+    /**
+     * this profiler phases timings, summed over every frame
+     */
+    private long[] phaseTotals;
+
+    /**
+     * this profiler counters, summed over every frame
+     */
+    private long[] counterTotals;
+
+    /**
+     * this profiler phases totals of another profiler merged so far
+     */
+    private long[] mergedPhases;
+
+    /**
+     * this profiler counters totals of another profiler merged so far
+     */
+    private long[] mergedCounters;
+
+    /**
+     * this profiler phases start times on current frame
+     */
+    private long[] starts;
+
+    /**
+     * this profiler current frame index on history
+     */
+    private int current;
+
+    /**
+     * this profiler number of frames ended
+     */
+    private long frames;
+
+    /**
+     * this profiler buffer used to sort timings for percentiles
+     */
+    private long[] sorted;
+
+    /**
+     * Creates a disabled profiler, such as the profiler of another thread.
+     */
+    public FrameProfiler() {
+        enabled = false;
+        timings = new long[PHASES.length][HISTORY];
+        counters = new int[COUNTERS.length][HISTORY];
+        phaseTotals = new long[PHASES.length];
+        counterTotals = new long[COUNTERS.length];
+        mergedPhases = new long[PHASES.length];
+        mergedCounters = new long[COUNTERS.length];
+        starts = new long[PHASES.length];
+        sorted = new long[WINDOW];
+        current = 0;
+        frames = 0;
+    }
+
+    /**
+     * Gets FrameProfiler Singleton instance.
+     * @return this FrameProfiler
+     */
+    public static FrameProfiler getInstance() {
+        if(instance == null)
+            instance = new FrameProfiler();
+        return instance;
+    }
+
+    /**
+     * Marks the beginning of the given phase on current frame.
+     * @param phase the phase starting
+     */
+    public void begin(Phase phase) {
+        if(!enabled)
+            return;
+        starts[phase.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    /**
+     * Marks the end of the given phase on current frame, adding its
+     * duration to the frame timings.
+     * @param phase the phase ending
+     */
+    public void end(Phase phase) {
+        if(!enabled)
+            return;
+        long duration = TimeUtils.nanoTime() - starts[phase.ordinal()];
+        timings[phase.ordinal()][current] += duration;
+        phaseTotals[phase.ordinal()] += duration;
+    }
+
+    /**
+     * Adds inc to the given counter on current frame.
+     * @param counter the counter to increment
+     * @param inc the increment
+     */
+    public void count(Counter counter, int inc) {
+        if(!enabled)
+            return;
+        counters[counter.ordinal()][current] += inc;
+        counterTotals[counter.ordinal()] += inc;
+    }
+
+    /**
+     * Copies this profiler totals, summed over every frame, to the given arrays.
+     * @param phases the array of the phases totals, by ordinal
+     * @param counters the array of the counters totals, by ordinal
+     */
+    public void getTotals(long[] phases, long[] counters) {
+        System.arraycopy(phaseTotals, 0, phases, 0, PHASES.length);
+        System.arraycopy(counterTotals, 0, counters, 0, COUNTERS.length);
+    }
+
+    /**
+     * Adds to current frame what the totals of another profiler grew since
+     * they were last merged. Totals grown while disabled are skipped.
+     * @param phases the other profiler phases totals, by ordinal
+     * @param counters the other profiler counters totals, by ordinal
+     */
+    public void merge(long[] phases, long[] counters) {
+        for (int p = 0; p < PHASES.length; ++p) {
+            if(enabled)
+                timings[p][current] += phases[p] - mergedPhases[p];
+            mergedPhases[p] = phases[p];
+        }
+        for (int c = 0; c < COUNTERS.length; ++c) {
+            if(enabled)
+                this.counters[c][current] += (int) (counters[c] - mergedCounters[c]);
+            mergedCounters[c] = counters[c];
+        }
+    }
+
+    /**
+     * Ends current frame, moving to the next history slot.
+     */
+    public void endFrame() {
+        if(!enabled)
+            return;
+        current = (current + 1) % HISTORY;
+        ++frames;
+        for (int p = 0; p < PHASES.length; ++p)
+            timings[p][current] = 0;
+        for (int c = 0; c < COUNTERS.length; ++c)
+            counters[c][current] = 0;
+    }
+
+    private int windowSize() {
+        return (int) Math.min(WINDOW, frames);
+    }
+
+    private int windowIndex(int i) {
+        return (current - 1 - i + HISTORY) % HISTORY;
+    }
+
+    /**
+     * Gets the given phase average duration over the last frames.
+     * @param phase the phase
+     * @return the average duration in nanoseconds
+     */
+    public long getAverage(Phase phase) {
+        int size = windowSize();
+        if(size == 0)
+            return 0;
+        long sum = 0;
+        for (int i = 0; i < size; ++i)
+            sum += timings[phase.ordinal()][windowIndex(i)];
+        return sum / size;
+    }
+
+    /**
+     * Gets the given phase duration percentile over the last frames.
+     * @param phase the phase
+     * @param percentile the percentile, between 0 and 1
+     * @return the percentile duration in nanoseconds
+     */
+    public long getPercentile(Phase phase, float percentile) {
+        int size = windowSize();
+        if(size == 0)
+            return 0;
+        for (int i = 0; i < size; ++i)
+            sorted[i] = timings[phase.ordinal()][windowIndex(i)];
+        Arrays.sort(sorted, 0, size);
+        return sorted[Math.min(size - 1, (int) (percentile * size))];
+    }
+
+    /**
+     * Gets the given counter average over the last frames.
+     * @param counter the counter
+     * @return the counter average per frame
+     */
+    public int getAverage(Counter counter) {
+        int size = windowSize();
+        if(size == 0)
+            return 0;
+        long sum = 0;
+        for (int i = 0; i < size; ++i)
+            sum += counters[counter.ordinal()][windowIndex(i)];
+        return (int) (sum / size);
+    }
+
+    /**
+     * Appends to the given builder a line per phase with its rolling
+     * average and p99, in microseconds, followed by the counters.
+     * @param builder the builder to append to
+     */
+    public void appendSummary(StringBuilder builder) {
+        for (Phase phase : PHASES) {
+            builder.append(phase.name()).append(": ")
+                    .append(getAverage(phase) / 1000).append("us avg, ")
+                    .append(getPercentile(phase, 0.99f) / 1000).append("us p99\n");
+        }
+        for (Counter counter : COUNTERS)
+            builder.append(counter.name()).append(": ").append(getAverage(counter)).append('\n');
+    }
+
+    /**
+     * Writes the recorded frames history to the given file as csv,
+     * one line per frame, from the oldest to the most recent.
+     * @param file the file to write
+     */
+    public void exportCsv(FileHandle file) {
+        StringBuilder builder = new StringBuilder("frame");
+        for (Phase phase : PHASES)
+            builder.append(',').append(phase.name().toLowerCase());
+        for (Counter counter : COUNTERS)
+            builder.append(',').append(counter.name().toLowerCase());
+        builder.append('\n');
+
+        int size = (int) Math.min(HISTORY - 1, frames);
+        for (int i = size - 1; i >= 0; --i) {
+            int index = windowIndex(i);
+            builder.append(frames - 1 - i);
+            for (int p = 0; p < PHASES.length; ++p)
+                builder.append(',').append(timings[p][index]);
+            for (int c = 0; c < COUNTERS.length; ++c)
+                builder.append(',').append(counters[c][index]);
+            builder.append('\n');
+        }
+        file.writeString(builder.toString(), false);
+    }
+
+    /**
+     * Indicates if this profiler is recording.
+     * @return this enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets this profiler recording.
+     * @param enabled this enabled new value
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Switches this profiler recording on or off.
+     */
+    public void toggle() {
+        enabled = !enabled;
+    }
+
+    /**
+     * Gets the number of frames ended while recording.
+     * @return this frames
+     */
+    public long getFrames() {
+        return frames;
+    }
+}
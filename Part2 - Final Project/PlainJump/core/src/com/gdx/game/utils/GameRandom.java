@@ -0,0 +1,69 @@
+package com.gdx.game.utils;
+
+import java.util.Random;
+
+/**
+ * This class is the single source of randomness of a map. It is created
+ * from one seed and split into an independent random generator per
+ * stream, so the level and bonus sequences are fully determined by the
+ * seed and consuming one stream never changes the others.
+ */
+public class GameRandom {
+
+    /**
+     * Possible random streams of a map
+     */
+    public enum Stream {
+        LEVEL,
+        BONUS;
+    }
+
+    /**
+     * increment between the seeds of consecutive streams
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * this random seed
+     */
+    private final long seed;
+
+    /**
+     * Creates a random with a seed taken from the current time.
+     */
+    public GameRandom() {
+        this(mix(System.nanoTime()));
+    }
+
+    /**
+     * Creates a random with the given seed.
+     * @param seed this random seed
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Retrieve the value of this random seed.
+     * @return this seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates a new generator for the given stream. Generators created for
+     * the same stream with the same seed give the same sequence.
+     * @param stream the stream
+     * @return the stream generator
+     */
+    public Random split(Stream stream) {
+        return new Random(mix(seed + GOLDEN_GAMMA * (stream.ordinal() + 1)));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
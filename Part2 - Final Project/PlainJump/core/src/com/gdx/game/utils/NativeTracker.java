@@ -0,0 +1,370 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+
+/**
+ * This class keeps account of the native objects the game creates, Bullet
+ * objects and GL resources alike, that must be disposed explicitly. It
+ * counts the live objects of each kind with an estimate of their native
+ * footprint, and finds the ones that outlive the session they were created
+ * on, optionally with the stack trace of their creation.
+ *
+ * Session 0 is the game start up: objects created on it live for the
+ * whole game. Every later session is a run, started with
+ * {@link #beginSession()}, and its objects are leaked if still alive
+ * once the next run began.
+ */
+public class NativeTracker {
+
+    /**
+     * Kinds of native objects tracked, with their estimated footprint in bytes
+     */
+    public enum Kind {
+        RIGID_BODY(608),
+        COLLISION_SHAPE(96),
+        CONSTRUCTION_INFO(176),
+        MODEL(0),
+        MESH(0),
+        FRAME_BUFFER(0),
+        SPRITE_BATCH(SPRITE_BATCH_BYTES),
+        STAGE(SPRITE_BATCH_BYTES),
+        FONT_GENERATOR(FONT_GENERATOR_BYTES);
+
+        /**
+         * this kind estimated footprint, when not given on tracking
+         */
+        private final long bytes;
+
+        Kind(long bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * session of the objects owned for the whole game, never reported as leaked
+     */
+    public static final int GAME_SESSION = 0;
+
+    /**
+     * estimated footprint of a default sprite batch, its 1000 sprites vertex and index buffers
+     */
+    private static final long SPRITE_BATCH_BYTES = 1000 * 4 * 5 * 4 + 1000 * 6 * 2;
+
+    /**
+     * estimated footprint of a frame buffer pixel, its color padded to 4 bytes and its 16-bit depth
+     */
+    private static final long FRAME_BUFFER_PIXEL_BYTES = 4 + 2;
+
+    /**
+     * estimated footprint of a FreeType face, without its font file
+     */
+    private static final long FONT_GENERATOR_BYTES = 64 * 1024;
+
+    /**
+     * A tracked native object.
+     */
+    public static class Entry {
+
+        /**
+         * this entry object kind
+         */
+        private final Kind kind;
+
+        /**
+         * this entry object estimated footprint, in bytes
+         */
+        private final long bytes;
+
+        /**
+         * this entry object creation session
+         */
+        private final int session;
+
+        /**
+         * this entry object creation stack trace, null if not recorded
+         */
+        private final Throwable creation;
+
+        private Entry(Kind kind, long bytes, int session, Throwable creation) {
+            this.kind = kind;
+            this.bytes = bytes;
+            this.session = session;
+            this.creation = creation;
+        }
+
+        /**
+         * Retrieve the value of this entry kind.
+         * @return this kind
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Retrieve the value of this entry estimated footprint.
+         * @return this bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Retrieve the value of this entry creation session.
+         * @return this session
+         */
+        public int getSession() {
+            return session;
+        }
+
+        /**
+         * Retrieve the stack trace of this entry object creation.
+         * @return this creation, null if stacks were not recorded
+         */
+        public Throwable getCreation() {
+            return creation;
+        }
+    }
+
+    /**
+     * this Singleton Instance
+     */
+    private static NativeTracker instance = null;
+
+    /**
+     * this tracker live objects
+     */
+    private final IdentityMap<Object, Entry> live;
+
+    /**
+     * this tracker live objects of each kind
+     */
+    private final int[] counts;
+
+    /**
+     * this tracker live objects estimated footprint of each kind, in bytes
+     */
+    private final long[] bytes;
+
+    /**
+     * this tracker current session
+     */
+    private int session;
+
+    /**
+     * this tracker setting for recording the creation stack traces
+     */
+    private boolean recordingStacks;
+
+    private NativeTracker() {
+        live = new IdentityMap<Object, Entry>();
+        counts = new int[Kind.values().length];
+        bytes = new long[Kind.values().length];
+        session = 0;
+        recordingStacks = false;
+    }
+
+    /**
+     * Gets NativeTracker Singleton instance.
+     * @return this NativeTracker
+     */
+    public static NativeTracker getInstance() {
+        if(instance == null)
+            instance = new NativeTracker();
+        return instance;
+    }
+
+    /**
+     * Resets this Singleton instance.
+     */
+    public void reset() {
+        instance = null;
+    }
+
+    /**
+     * Sets this tracker to record the creation stack trace of every object
+     * tracked from now on, at the cost of filling one on each creation.
+     * @param recordingStacks this recordingStacks new value
+     */
+    public synchronized void setRecordingStacks(boolean recordingStacks) {
+        this.recordingStacks = recordingStacks;
+    }
+
+    /**
+     * Tracks the given native object, with its kind estimated footprint.
+     * @param object the created object
+     * @param kind the object kind
+     */
+    public void track(Object object, Kind kind) {
+        track(object, kind, kind.bytes);
+    }
+
+    /**
+     * Tracks the given model, with the footprint of its meshes.
+     * @param model the created model
+     */
+    public void track(Model model) {
+        track(model, Kind.MODEL, footprint(model));
+    }
+
+    /**
+     * Tracks the given model as owned for the whole game, such as by a
+     * cache, so it is never reported as leaked by the run it was built on.
+     * @param model the created model
+     */
+    public void trackForGame(Model model) {
+        track(model, Kind.MODEL, footprint(model), GAME_SESSION);
+    }
+
+    /**
+     * Tracks the given frame buffer as owned for the whole game, with the
+     * footprint of its color and depth buffers. It may be replaced on any
+     * run, but is not left behind by it.
+     * @param frameBuffer the created frame buffer
+     */
+    public void trackForGame(FrameBuffer frameBuffer) {
+        track(frameBuffer, Kind.FRAME_BUFFER, (long) frameBuffer.getWidth() * frameBuffer.getHeight() * FRAME_BUFFER_PIXEL_BYTES, GAME_SESSION);
+    }
+
+    /**
+     * Tracks the given mesh, with the footprint of its buffers.
+     * @param mesh the created mesh
+     */
+    public void track(Mesh mesh) {
+        track(mesh, Kind.MESH, footprint(mesh));
+    }
+
+    /**
+     * Tracks the given native object.
+     * @param object the created object
+     * @param kind the object kind
+     * @param size the object estimated footprint, in bytes
+     */
+    public synchronized void track(Object object, Kind kind, long size) {
+        track(object, kind, size, session);
+    }
+
+    private synchronized void track(Object object, Kind kind, long size, int session) {
+        if(live.containsKey(object))
+            return;
+        live.put(object, new Entry(kind, size, session, recordingStacks ? new Throwable("created on session " + this.session) : null));
+        ++counts[kind.ordinal()];
+        bytes[kind.ordinal()] += size;
+    }
+
+    /**
+     * Stops tracking the given object, once disposed.
+     * @param object the disposed object
+     */
+    public synchronized void untrack(Object object) {
+        Entry entry = live.remove(object);
+        if(entry == null)
+            return;
+        --counts[entry.kind.ordinal()];
+        bytes[entry.kind.ordinal()] -= entry.bytes;
+    }
+
+    /**
+     * Begins a new session, a game run.
+     * @return the new session
+     */
+    public synchronized int beginSession() {
+        return ++session;
+    }
+
+    /**
+     * Gets this tracker current session.
+     * @return this session
+     */
+    public synchronized int getSession() {
+        return session;
+    }
+
+    /**
+     * Gets the number of live objects of the given kind.
+     * @param kind the kind
+     * @return the kind live objects
+     */
+    public synchronized int getLive(Kind kind) {
+        return counts[kind.ordinal()];
+    }
+
+    /**
+     * Gets the number of live objects.
+     * @return this live size
+     */
+    public synchronized int getLive() {
+        return live.size;
+    }
+
+    /**
+     * Gets the estimated footprint of the live objects of the given kind.
+     * @param kind the kind
+     * @return the kind footprint, in bytes
+     */
+    public synchronized long getEstimatedBytes(Kind kind) {
+        return bytes[kind.ordinal()];
+    }
+
+    /**
+     * Gets the estimated footprint of the live objects.
+     * @return the footprint, in bytes
+     */
+    public synchronized long getEstimatedBytes() {
+        long total = 0;
+        for (long size : bytes)
+            total += size;
+        return total;
+    }
+
+    /**
+     * Gets the live objects created on a run that already ended.
+     * @return the leaked objects
+     */
+    public synchronized Array<Entry> getLeaks() {
+        Array<Entry> leaks = new Array<Entry>();
+        for (Entry entry : live.values())
+            if(entry.session > 0 && entry.session < session)
+                leaks.add(entry);
+        return leaks;
+    }
+
+    /**
+     * Writes a report of the live objects of each kind and of the leaked
+     * objects, with their creation stack traces if recorded.
+     * @return this tracker report
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder();
+        report.append("native objects: ").append(live.size).append(", ~")
+                .append(getEstimatedBytes() / 1024).append(" KB, session ").append(session).append('\n');
+        for (Kind kind : Kind.values())
+            if(counts[kind.ordinal()] > 0)
+                report.append("  ").append(kind).append(": ").append(counts[kind.ordinal()])
+                        .append(", ~").append(bytes[kind.ordinal()] / 1024).append(" KB\n");
+        Array<Entry> leaks = getLeaks();
+        if(leaks.size > 0)
+            report.append("leaked: ").append(leaks.size).append('\n');
+        for (Entry entry : leaks) {
+            report.append("  ").append(entry.kind).append(" created on session ").append(entry.session).append('\n');
+            if(entry.creation != null)
+                for (StackTraceElement element : entry.creation.getStackTrace())
+                    report.append("    at ").append(element).append('\n');
+        }
+        return report.toString();
+    }
+
+    private static long footprint(Model model) {
+        long size = 0;
+        for (Mesh mesh : model.meshes)
+            size += footprint(mesh);
+        return size;
+    }
+
+    private static long footprint(Mesh mesh) {
+        return (long) mesh.getNumVertices() * mesh.getVertexSize() + (long) mesh.getNumIndices() * 2;
+    }
+}
@@ -0,0 +1,282 @@
+package com.gdx.game.utils;
+
+import java.util.Arrays;
+
+/**
+ * This class picks the quality level the game renders and simulates at
+ * from the measured frame times, to hold a target frame rate. It keeps a
+ * rolling window of frame times and, every EVALUATE_FRAMES, compares its
+ * percentile to the target frame time: the level drops as soon as the
+ * target is missed by far, but only rises after the target was held for
+ * a while, a while that doubles each time a rise had to be undone, so
+ * levels do not oscillate around the target.
+ */
+public class QualityGovernor {
+
+    /**
+     * Quality levels, from the cheapest to the full quality.
+     */
+    public enum Level {
+        LOW(12, 120f, 10, 1, 0.5f),
+        MEDIUM(18, 170f, 14, 1, 0.75f),
+        HIGH(24, 210f, 17, 2, 1f),
+        FULL(30, 235f, 20, 2, 1f);
+
+        /**
+         * this level ball sphere divisions, both in U and V
+         */
+        private final int ballDivisions;
+
+        /**
+         * this level camera far plane distance
+         */
+        private final float cameraFar;
+
+        /**
+         * this level number of plain rows drawn ahead of the camera
+         */
+        private final int plainRows;
+
+        /**
+         * this level number of physics substeps per tick
+         */
+        private final int substeps;
+
+        /**
+         * this level map render resolution, relative to the screen
+         */
+        private final float renderScale;
+
+        Level(int ballDivisions, float cameraFar, int plainRows, int substeps, float renderScale) {
+            this.ballDivisions = ballDivisions;
+            this.cameraFar = cameraFar;
+            this.plainRows = plainRows;
+            this.substeps = substeps;
+            this.renderScale = renderScale;
+        }
+
+        /**
+         * Retrieve the value of this level ball sphere divisions.
+         * @return this ballDivisions
+         */
+        public int getBallDivisions() {
+            return ballDivisions;
+        }
+
+        /**
+         * Retrieve the value of this level camera far plane distance.
+         * @return this cameraFar
+         */
+        public float getCameraFar() {
+            return cameraFar;
+        }
+
+        /**
+         * Retrieve the value of this level number of plain rows drawn.
+         * @return this plainRows
+         */
+        public int getPlainRows() {
+            return plainRows;
+        }
+
+        /**
+         * Retrieve the value of this level number of physics substeps.
+         * @return this substeps
+         */
+        public int getSubsteps() {
+            return substeps;
+        }
+
+        /**
+         * Retrieve the value of this level render resolution.
+         * @return this renderScale
+         */
+        public float getRenderScale() {
+            return renderScale;
+        }
+    }
+
+    /**
+     * this governor levels, cached to avoid values() copies
+     */
+    private static final Level[] LEVELS = Level.values();
+
+    /**
+     * number of most recent frames evaluated
+     */
+    public static final int WINDOW = 120;
+
+    /**
+     * number of frames between evaluations
+     */
+    public static final int EVALUATE_FRAMES = 30;
+
+    /**
+     * percentile of the window frame times compared to the target
+     */
+    private static final float PERCENTILE = 0.9f;
+
+    /**
+     * ratio to the target frame time above which the level drops
+     */
+    private static final float DROP_RATIO = 1.25f;
+
+    /**
+     * ratio to the target frame time below which the target is held
+     */
+    private static final float HOLD_RATIO = 1.05f;
+
+    /**
+     * number of evaluations holding the target before the first rise
+     */
+    private static final int RISE_EVALUATIONS = 20;
+
+    /**
+     * maximum number of evaluations holding the target before a rise
+     */
+    private static final int MAX_RISE_EVALUATIONS = 320;
+
+    /**
+     * this governor target frame time, in seconds
+     */
+    private final float target;
+
+    /**
+     * this governor lowest level allowed
+     */
+    private final Level min;
+
+    /**
+     * this governor highest level allowed
+     */
+    private final Level max;
+
+    /**
+     * this governor current level
+     */
+    private Level level;
+
+    /**
+     * this governor frame times, a ring of WINDOW frames
+     */
+    private final float[] frames;
+
+    /**
+     * this governor frame times copy, sorted on evaluation
+     */
+    private final float[] sorted;
+
+    /**
+     * this governor number of frames added since the last change
+     */
+    private int count;
+
+    /**
+     * this governor number of consecutive evaluations holding the target
+     */
+    private int held;
+
+    /**
+     * this governor number of evaluations holding the target needed to rise
+     */
+    private int riseEvaluations;
+
+    /**
+     * this governor flag set when the last change was a rise not held for long yet
+     */
+    private boolean rose;
+
+    /**
+     * Creates a governor starting at the highest level allowed.
+     * @param targetFps the target frame rate
+     * @param min the lowest level allowed
+     * @param max the highest level allowed
+     */
+    public QualityGovernor(float targetFps, Level min, Level max) {
+        if (min.compareTo(max) > 0)
+            throw new IllegalArgumentException("min level " + min + " above max level " + max);
+        this.target = 1f / targetFps;
+        this.min = min;
+        this.max = max;
+        level = max;
+        frames = new float[WINDOW];
+        sorted = new float[WINDOW];
+        riseEvaluations = RISE_EVALUATIONS;
+        rose = false;
+        clear();
+    }
+
+    /**
+     * Adds the duration of a frame, changing this level if needed.
+     * @param delta the frame duration, in seconds
+     * @return true if this level changed, false otherwise
+     */
+    public boolean addFrame(float delta) {
+        frames[count % WINDOW] = delta;
+        ++count;
+        if (count < WINDOW || count % EVALUATE_FRAMES != 0)
+            return false;
+        return evaluate();
+    }
+
+    private boolean evaluate() {
+        System.arraycopy(frames, 0, sorted, 0, WINDOW);
+        Arrays.sort(sorted);
+        float time = sorted[Math.min(WINDOW - 1, (int) (PERCENTILE * WINDOW))];
+
+        if (time > target * DROP_RATIO) {
+            held = 0;
+            if (level == min)
+                return false;
+            if (rose)
+                riseEvaluations = Math.min(riseEvaluations * 2, MAX_RISE_EVALUATIONS);
+            rose = false;
+            change(LEVELS[level.ordinal() - 1]);
+            return true;
+        }
+
+        if (time > target * HOLD_RATIO) {
+            held = 0;
+            return false;
+        }
+
+        ++held;
+        if (held >= riseEvaluations)
+            rose = false;
+        if (level == max || held < riseEvaluations)
+            return false;
+        rose = true;
+        change(LEVELS[level.ordinal() + 1]);
+        return true;
+    }
+
+    private void change(Level level) {
+        this.level = level;
+        clear();
+    }
+
+    /**
+     * Discards the frames added so far, such as the frames of a
+     * transition that should not be evaluated.
+     */
+    public void clear() {
+        count = 0;
+        held = 0;
+    }
+
+    /**
+     * Gets this governor current level.
+     * @return this level
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of evaluations holding the target needed to rise a level.
+     * @return this riseEvaluations
+     */
+    public int getRiseEvaluations() {
+        return riseEvaluations;
+    }
+}
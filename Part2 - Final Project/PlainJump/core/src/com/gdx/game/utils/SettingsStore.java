@@ -0,0 +1,243 @@
+package com.gdx.game.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * This class writes a small file behind its writer, on a background
+ * thread. Only the latest contents submitted are kept, so changes made
+ * while a write is running are coalesced into the next one. Contents
+ * are encoded on that thread too, and only if they are written. Each write
+ * goes to a temporary file next to the target that is then renamed over
+ * it, so the target always holds either the previous or the new contents.
+ */
+public class SettingsStore implements Runnable {
+
+    /**
+     * suffix of the temporary file written before being renamed over the target
+     */
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Contents of the file, encoded when written.
+     */
+    public interface Contents {
+
+        /**
+         * Encodes these contents, on the store thread.
+         * @return the file contents
+         */
+        String encode();
+    }
+
+    /**
+     * this store target file
+     */
+    private final File file;
+
+    /**
+     * this store temporary file, renamed over file once written
+     */
+    private final File temp;
+
+    /**
+     * this store contents waiting to be written, null if none
+     */
+    private Contents pending;
+
+    /**
+     * this store number of contents submitted
+     */
+    private long submitted;
+
+    /**
+     * this store number of contents submitted already written, or dropped on error
+     */
+    private long done;
+
+    /**
+     * this store number of writes made
+     */
+    private int writes;
+
+    /**
+     * this store last write error, null if none
+     */
+    private IOException error;
+
+    /**
+     * this store worker thread
+     */
+    private Thread worker;
+
+    /**
+     * this store running flag
+     */
+    private boolean running;
+
+    /**
+     * Creates a store writing to the given file.
+     * @param file the target file
+     */
+    public SettingsStore(File file) {
+        this.file = file;
+        temp = new File(file.getPath() + TEMP_SUFFIX);
+        submitted = 0;
+        done = 0;
+        writes = 0;
+    }
+
+    /**
+     * Submits the given contents to be written, replacing any contents
+     * not yet written.
+     * @param contents the new file contents
+     */
+    public void submit(final String contents) {
+        submit(new Contents() {
+            @Override
+            public String encode() {
+                return contents;
+            }
+        });
+    }
+
+    /**
+     * Submits the given contents to be encoded and written, replacing any
+     * contents not yet written. Starts the worker thread if needed.
+     * @param contents the new file contents, not changed once submitted
+     */
+    public synchronized void submit(Contents contents) {
+        pending = contents;
+        ++submitted;
+        if (!running) {
+            running = true;
+            worker = new Thread(this, "settings-store");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Waits until every contents submitted so far is written.
+     */
+    public synchronized void flush() {
+        long target = submitted;
+        boolean interrupted = false;
+        while (done < target && running) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Writes the contents submitted and stops the worker thread, waiting for it to finish.
+     * A later submit starts it again.
+     */
+    public void dispose() {
+        Thread stopped;
+        synchronized (this) {
+            flush();
+            running = false;
+            notifyAll();
+            stopped = worker;
+            worker = null;
+        }
+        if (stopped == null)
+            return;
+        try {
+            stopped.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Contents contents;
+            long version;
+            synchronized (this) {
+                while (pending == null && running) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending == null)
+                    return;
+                contents = pending;
+                version = submitted;
+                pending = null;
+            }
+
+            IOException failure = null;
+            try {
+                write(contents.encode());
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException("cannot encode " + file, e);
+            }
+
+            synchronized (this) {
+                ++writes;
+                error = failure;
+                done = version;
+                notifyAll();
+            }
+        }
+    }
+
+    private void write(String contents) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs())
+            throw new IOException("cannot create " + parent);
+
+        FileOutputStream out = new FileOutputStream(temp);
+        try {
+            out.write(contents.getBytes("UTF-8"));
+            out.flush();
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+
+        if (!temp.renameTo(file)) {
+            // renaming over an existing file fails on some platforms
+            if (!file.delete() || !temp.renameTo(file))
+                throw new IOException("cannot rename " + temp + " to " + file);
+        }
+    }
+
+    /**
+     * Gets the target file of this store.
+     * @return this file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the number of writes made, each holding the latest contents submitted.
+     * @return this writes
+     */
+    public synchronized int getWrites() {
+        return writes;
+    }
+
+    /**
+     * Gets the error of the last write.
+     * @return this error, null if the last write succeeded
+     */
+    public synchronized IOException getError() {
+        return error;
+    }
+}
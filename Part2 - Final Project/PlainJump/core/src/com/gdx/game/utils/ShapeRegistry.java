@@ -0,0 +1,186 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.bullet.BulletBase;
+import com.badlogic.gdx.physics.bullet.collision.btBoxShape;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
+import com.badlogic.gdx.physics.bullet.collision.btSphereShape;
+import com.badlogic.gdx.physics.bullet.dynamics.btRigidBody;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class shares native collision shapes and rigid body construction
+ * info between identical bodies. Every get counts a reference to the
+ * returned object, which is disposed when its last reference is released.
+ */
+public class ShapeRegistry {
+
+    /**
+     * this Singleton Instance
+     */
+    private static ShapeRegistry instance = null;
+
+    /**
+     * this registry shared objects, by key
+     */
+    private ObjectMap<String, BulletBase> objects;
+
+    /**
+     * this registry keys, by shared object
+     */
+    private ObjectMap<BulletBase, String> keys;
+
+    /**
+     * this registry number of references, by shared object
+     */
+    private ObjectIntMap<BulletBase> references;
+
+    /**
+     * this registry vector used to calculate inertia
+     */
+    private Vector3 inertia;
+
+    private ShapeRegistry() {
+        objects = new ObjectMap<String, BulletBase>();
+        keys = new ObjectMap<BulletBase, String>();
+        references = new ObjectIntMap<BulletBase>();
+        inertia = new Vector3();
+    }
+
+    /**
+     * Gets ShapeRegistry Singleton instance.
+     * @return this ShapeRegistry
+     */
+    public static ShapeRegistry getInstance() {
+        if(instance == null)
+            instance = new ShapeRegistry();
+        return instance;
+    }
+
+    /**
+     * Resets this Singleton instance.
+     */
+    public void reset() {
+        instance = null;
+    }
+
+    /**
+     * Gets a box shape with the given half extents, creating it if needed.
+     * @param halfWidth the box half width
+     * @param halfHeight the box half height
+     * @param halfDepth the box half depth
+     * @return the shared box shape
+     */
+    public btCollisionShape getBox(float halfWidth, float halfHeight, float halfDepth) {
+        String key = "box" + halfWidth + "x" + halfHeight + "x" + halfDepth;
+        btCollisionShape shape = (btCollisionShape) obtain(key);
+        if(shape == null) {
+            shape = new btBoxShape(new Vector3(halfWidth, halfHeight, halfDepth));
+            add(key, shape, NativeTracker.Kind.COLLISION_SHAPE);
+        }
+        return shape;
+    }
+
+    /**
+     * Gets a sphere shape with the given radius, creating it if needed.
+     * @param radius the sphere radius
+     * @return the shared sphere shape
+     */
+    public btCollisionShape getSphere(float radius) {
+        String key = "sphere" + radius;
+        btCollisionShape shape = (btCollisionShape) obtain(key);
+        if(shape == null) {
+            shape = new btSphereShape(radius);
+            add(key, shape, NativeTracker.Kind.COLLISION_SHAPE);
+        }
+        return shape;
+    }
+
+    /**
+     * Gets the construction info of a rigid body with the given shape and
+     * mass, creating it if needed. The shape should have been obtained from
+     * this registry.
+     * @param shape the rigid body shape
+     * @param mass the rigid body mass
+     * @return the shared construction info
+     */
+    public btRigidBody.btRigidBodyConstructionInfo getConstructionInfo(btCollisionShape shape, float mass) {
+        String key = "info" + keys.get(shape, String.valueOf(shape.hashCode())) + "m" + mass;
+        btRigidBody.btRigidBodyConstructionInfo info = (btRigidBody.btRigidBodyConstructionInfo) obtain(key);
+        if(info == null) {
+            if (mass > 0)
+                shape.calculateLocalInertia(mass, inertia);
+            else
+                inertia.set(0, 0, 0);
+            info = new btRigidBody.btRigidBodyConstructionInfo(mass, null, shape, inertia);
+            add(key, info, NativeTracker.Kind.CONSTRUCTION_INFO);
+        }
+        return info;
+    }
+
+    /**
+     * Gets the object shared under the given key, counting a reference to it.
+     * @param key the object key
+     * @return the shared object, null if none is shared under the key
+     */
+    BulletBase obtain(String key) {
+        BulletBase object = objects.get(key);
+        if(object != null)
+            references.getAndIncrement(object, 0, 1);
+        return object;
+    }
+
+    /**
+     * Shares the given object under the given key, counting a reference to it.
+     * @param key the object key
+     * @param object the object to share
+     * @param kind the object kind, as tracked
+     */
+    void add(String key, BulletBase object, NativeTracker.Kind kind) {
+        objects.put(key, object);
+        keys.put(object, key);
+        references.put(object, 1);
+        NativeTracker.getInstance().track(object, kind);
+    }
+
+    /**
+     * Releases a reference to the given shape or construction info,
+     * disposing it if it was the last one. Objects not created by this
+     * registry are disposed immediately.
+     * @param object the object to release
+     */
+    public void release(BulletBase object) {
+        String key = keys.get(object);
+        if(key == null) {
+            object.dispose();
+            NativeTracker.getInstance().untrack(object);
+            return;
+        }
+        int count = references.getAndIncrement(object, 0, -1) - 1;
+        if(count <= 0) {
+            references.remove(object, 0);
+            keys.remove(object);
+            objects.remove(key);
+            object.dispose();
+            NativeTracker.getInstance().untrack(object);
+        }
+    }
+
+    /**
+     * Gets the number of references to the given object.
+     * @param object the shared object
+     * @return the object references
+     */
+    public int getReferences(BulletBase object) {
+        return references.get(object, 0);
+    }
+
+    /**
+     * Gets the number of shared objects alive.
+     * @return this objects size
+     */
+    public int size() {
+        return objects.size;
+    }
+}
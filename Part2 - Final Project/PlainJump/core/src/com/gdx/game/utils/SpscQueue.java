@@ -0,0 +1,92 @@
+package com.gdx.game.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a bounded lock-free queue for exactly one producer
+ * thread and one consumer thread. Offering to a full queue or polling
+ * an empty one fails immediately instead of blocking.
+ * @param <T> the queued items type
+ */
+public class SpscQueue<T> {
+
+    /**
+     * this queue items, indexed by sequence number masked to the capacity
+     */
+    private final Object[] items;
+
+    /**
+     * this queue mask, capacity - 1
+     */
+    private final int mask;
+
+    /**
+     * this queue sequence number of the next item to poll, written by the consumer
+     */
+    private final AtomicLong head;
+
+    /**
+     * this queue sequence number of the next item to offer, written by the producer
+     */
+    private final AtomicLong tail;
+
+    /**
+     * Creates an empty queue holding at most capacity items.
+     * @param capacity this queue capacity, must be a power of two
+     */
+    public SpscQueue(int capacity) {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0)
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        items = new Object[capacity];
+        mask = capacity - 1;
+        head = new AtomicLong();
+        tail = new AtomicLong();
+    }
+
+    /**
+     * Adds the given item to the end of this queue. Must only be called by the producer.
+     * @param item the item to add
+     * @return true if added, false if this queue is full
+     */
+    public boolean offer(T item) {
+        long t = tail.get();
+        if (t - head.get() == items.length)
+            return false;
+        items[(int) (t & mask)] = item;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the item at the front of this queue. Must only be called by the consumer.
+     * @return the removed item, null if this queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long h = head.get();
+        if (h == tail.get())
+            return null;
+        int index = (int) (h & mask);
+        T item = (T) items[index];
+        items[index] = null;
+        head.lazySet(h + 1);
+        return item;
+    }
+
+    /**
+     * Gets the number of queued items, which may be outdated if called while
+     * the other thread changes this queue.
+     * @return this queue size
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Gets the maximum number of queued items.
+     * @return this queue capacity
+     */
+    public int capacity() {
+        return items.length;
+    }
+}
@@ -0,0 +1,241 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class hands the state of every entity from the thread running the
+ * simulation to the thread rendering it, without locks. The writer fills
+ * its back frame and publishes it, the reader acquires the most recently
+ * published frame as its front frame. A third frame sits between them,
+ * so neither side ever waits for the other or sees a frame being written.
+ * Each frame also carries the frame published before it, so the reader
+ * can interpolate between consecutive ticks however many it skipped.
+ */
+public class TransformSnapshot {
+
+    /**
+     * number of floats before the first slot: the camera position
+     */
+    public static final int HEADER = 3;
+
+    /**
+     * number of floats per slot
+     */
+    public static final int STRIDE = 22;
+
+    /**
+     * offset on a slot of its color, after the 16 transform values
+     */
+    public static final int COLOR = 16;
+
+    /**
+     * offset on a slot of its visibility, 1 if visible
+     */
+    public static final int VISIBLE = 20;
+
+    /**
+     * offset on a slot of its revision, changed when moved without continuity
+     */
+    public static final int REVISION = 21;
+
+    /**
+     * flag set on the exchanged frame index when it holds a frame not yet acquired
+     */
+    private static final int FRESH = 4;
+
+    /**
+     * mask of the frame index
+     */
+    private static final int INDEX = 3;
+
+    /**
+     * State of every entity on a tick.
+     */
+    public static class Frame {
+
+        /**
+         * this frame camera position, followed by each slot values
+         */
+        public final float[] data;
+
+        /**
+         * this frame previously published data, set on publish
+         */
+        public final float[] previous;
+
+        /**
+         * this frame writer profiled phases timings, summed over every tick
+         */
+        public final long[] phases;
+
+        /**
+         * this frame writer profiled counters, summed over every tick
+         */
+        public final long[] counters;
+
+        /**
+         * this frame tick, 0 if no tick was run yet
+         */
+        public long tick;
+
+        /**
+         * this frame previously published tick, set on publish
+         */
+        public long previousTick;
+
+        /**
+         * this frame time, in nanoseconds, at which its tick is shown
+         */
+        public long time;
+
+        private Frame(int slots) {
+            data = new float[HEADER + slots * STRIDE];
+            previous = new float[data.length];
+            phases = new long[FrameProfiler.Phase.values().length];
+            counters = new long[FrameProfiler.Counter.values().length];
+        }
+
+        /**
+         * Sets this frame camera position.
+         * @param x the camera x
+         * @param y the camera y
+         * @param z the camera z
+         */
+        public void setCamera(float x, float y, float z) {
+            data[0] = x;
+            data[1] = y;
+            data[2] = z;
+        }
+
+        /**
+         * Sets the given slot values.
+         * @param slot the slot
+         * @param transform the entity transform
+         * @param color the entity color
+         * @param visible the entity visibility
+         * @param revision the entity revision
+         */
+        public void set(int slot, Matrix4 transform, Color color, boolean visible, int revision) {
+            int offset = offset(slot);
+            System.arraycopy(transform.val, 0, data, offset, 16);
+            data[offset + COLOR] = color.r;
+            data[offset + COLOR + 1] = color.g;
+            data[offset + COLOR + 2] = color.b;
+            data[offset + COLOR + 3] = color.a;
+            data[offset + VISIBLE] = visible ? 1 : 0;
+            data[offset + REVISION] = revision;
+        }
+    }
+
+    /**
+     * this snapshot frames
+     */
+    private final Frame[] frames;
+
+    /**
+     * this snapshot frame exchanged between writer and reader, with the FRESH flag
+     */
+    private final AtomicInteger exchanged;
+
+    /**
+     * this snapshot frame being written, only used by the writer
+     */
+    private int back;
+
+    /**
+     * this snapshot frame being read, only used by the reader
+     */
+    private int front;
+
+    /**
+     * this snapshot last published data, only used by the writer
+     */
+    private final float[] last;
+
+    /**
+     * this snapshot last published tick, only used by the writer
+     */
+    private long lastTick;
+
+    /**
+     * this snapshot number of slots
+     */
+    private final int slots;
+
+    /**
+     * Creates a snapshot of the given number of entities.
+     * @param slots the number of entities
+     */
+    public TransformSnapshot(int slots) {
+        this.slots = slots;
+        frames = new Frame[3];
+        for (int i = 0; i < frames.length; ++i)
+            frames[i] = new Frame(slots);
+        front = 0;
+        exchanged = new AtomicInteger(1);
+        back = 2;
+        last = new float[frames[0].data.length];
+        lastTick = 0;
+    }
+
+    /**
+     * Gets the offset on a frame data of the given slot.
+     * @param slot the slot
+     * @return the slot offset
+     */
+    public static int offset(int slot) {
+        return HEADER + slot * STRIDE;
+    }
+
+    /**
+     * Gets the frame to be written. Must only be called by the writer.
+     * @return the back frame
+     */
+    public Frame getBack() {
+        return frames[back];
+    }
+
+    /**
+     * Publishes the back frame, along with the frame published before it,
+     * replacing any frame not yet acquired. Must only be called by the writer.
+     */
+    public void publish() {
+        Frame frame = frames[back];
+        System.arraycopy(last, 0, frame.previous, 0, last.length);
+        frame.previousTick = lastTick;
+        System.arraycopy(frame.data, 0, last, 0, last.length);
+        lastTick = frame.tick;
+        back = exchanged.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * Takes the most recently published frame as front frame, if there
+     * is one not yet acquired. Must only be called by the reader.
+     * @return true if the front frame changed, false otherwise
+     */
+    public boolean acquire() {
+        if ((exchanged.get() & FRESH) == 0)
+            return false;
+        front = exchanged.getAndSet(front) & INDEX;
+        return true;
+    }
+
+    /**
+     * Gets the frame being read. Must only be called by the reader.
+     * @return the front frame
+     */
+    public Frame getFront() {
+        return frames[front];
+    }
+
+    /**
+     * Gets this snapshot number of slots.
+     * @return this slots
+     */
+    public int getSlots() {
+        return slots;
+    }
+}
@@ -0,0 +1,197 @@
+package com.gdx.game.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.gdx.game.utils.NativeTracker;
+
+/**
+ * This class shares the bitmap fonts of every view, one per font file and
+ * size. A font baked at build time into {@link #BAKED_DIR} is loaded as is,
+ * otherwise it is rasterized once with FreeType, keeping one generator per
+ * font file until {@link #releaseGenerators()}. Baked fonts can be loaded
+ * ahead, in the background, by queueing them on an asset manager with
+ * {@link #queue(AssetManager)}.
+ */
+public class FontCache {
+
+    /**
+     * path of the font used by every view
+     */
+    public static final String FONT_PATH = "fonts/myfont.ttf";
+
+    /**
+     * sizes of FONT_PATH used by the views, baked at build time
+     */
+    public static final int[] SIZES = {30, 40, 50, 90};
+
+    /**
+     * directory of the fonts baked at build time
+     */
+    public static final String BAKED_DIR = "fonts/baked/";
+
+    /**
+     * this Singleton Instance
+     */
+    private static FontCache instance = null;
+
+    /**
+     * this cache fonts, by path and size
+     */
+    private ObjectMap<String, BitmapFont> fonts;
+
+    /**
+     * this cache FreeType generators, by path
+     */
+    private ObjectMap<String, FreeTypeFontGenerator> generators;
+
+    /**
+     * this cache asset manager loading the baked fonts, null if none
+     */
+    private AssetManager assets;
+
+    /**
+     * this cache fonts owned by assets, by path and size
+     */
+    private ObjectSet<String> managed;
+
+    private FontCache() {
+        fonts = new ObjectMap<String, BitmapFont>();
+        generators = new ObjectMap<String, FreeTypeFontGenerator>();
+        managed = new ObjectSet<String>();
+    }
+
+    /**
+     * Gets FontCache Singleton instance.
+     * @return this FontCache
+     */
+    public static FontCache getInstance() {
+        if(instance == null)
+            instance = new FontCache();
+        return instance;
+    }
+
+    /**
+     * Resets this Singleton instance.
+     */
+    public void reset() {
+        instance = null;
+    }
+
+    /**
+     * Gets the name of the baked font of the given font file and size.
+     * @param path the font file path
+     * @param size the font size, in pixels
+     * @return the baked font name, without extension
+     */
+    public static String getBakedName(String path, int size) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        int extension = name.lastIndexOf('.');
+        if(extension > 0)
+            name = name.substring(0, extension);
+        return name + "-" + size;
+    }
+
+    /**
+     * Queues the baked fonts of every size used by the views on the given
+     * asset manager, which keeps them until it is disposed.
+     * @param assets the asset manager loading the fonts
+     */
+    public void queue(AssetManager assets) {
+        this.assets = assets;
+        for (int size : SIZES) {
+            FileHandle baked = Gdx.files.internal(getBakedPath(FONT_PATH, size));
+            if(baked.exists())
+                assets.load(baked.path(), BitmapFont.class);
+        }
+    }
+
+    private static String getBakedPath(String path, int size) {
+        return BAKED_DIR + getBakedName(path, size) + ".fnt";
+    }
+
+    /**
+     * Gets the font used by every view with the given size.
+     * @param size the font size, in pixels
+     * @return the shared font
+     */
+    public BitmapFont get(int size) {
+        return get(FONT_PATH, size);
+    }
+
+    /**
+     * Gets the font of the given font file and size, loading or
+     * generating it on first use.
+     * @param path the font file path
+     * @param size the font size, in pixels
+     * @return the shared font
+     */
+    public BitmapFont get(String path, int size) {
+        String key = path + "@" + size;
+        BitmapFont font = fonts.get(key);
+        if(font == null) {
+            String bakedPath = getBakedPath(path, size);
+            FileHandle baked = Gdx.files.internal(bakedPath);
+            if(assets != null && assets.isLoaded(bakedPath, BitmapFont.class)) {
+                font = assets.get(bakedPath, BitmapFont.class);
+                managed.add(key);
+            } else if(baked.exists()) {
+                font = new BitmapFont(baked);
+            } else {
+                FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+                parameter.size = size;
+                font = getGenerator(path).generateFont(parameter);
+            }
+            fonts.put(key, font);
+        }
+        return font;
+    }
+
+    private FreeTypeFontGenerator getGenerator(String path) {
+        FreeTypeFontGenerator generator = generators.get(path);
+        if(generator == null) {
+            generator = new FreeTypeFontGenerator(Gdx.files.internal(path));
+            NativeTracker.getInstance().track(generator, NativeTracker.Kind.FONT_GENERATOR);
+            generators.put(path, generator);
+        }
+        return generator;
+    }
+
+    /**
+     * Disposes of the FreeType generators, once every font in use was
+     * generated. Fonts already generated are kept.
+     */
+    public void releaseGenerators() {
+        for (FreeTypeFontGenerator generator : generators.values()) {
+            generator.dispose();
+            NativeTracker.getInstance().untrack(generator);
+        }
+        generators.clear();
+    }
+
+    /**
+     * Gets the number of fonts loaded or generated.
+     * @return this fonts size
+     */
+    public int size() {
+        return fonts.size;
+    }
+
+    /**
+     * Disposes of all fonts and generators, but the fonts owned by the
+     * asset manager they were queued on.
+     */
+    public void dispose() {
+        releaseGenerators();
+        for (ObjectMap.Entry<String, BitmapFont> entry : fonts.entries())
+            if(!managed.contains(entry.key))
+                entry.value.dispose();
+        fonts.clear();
+        managed.clear();
+        assets = null;
+    }
+}
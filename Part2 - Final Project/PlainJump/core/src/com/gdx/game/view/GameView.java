@@ -2,6 +2,7 @@ package com.gdx.game.view;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.math.Vector3;
 
 /**
  * This class is responsible for the entire game's camera management
@@ -18,6 +19,11 @@ public class GameView {
      */
     private PerspectiveCamera camera;
 
+    /**
+     * this camera far plane distance
+     */
+    private float far = 235f;
+
     /**
      * Creates a GameView with camera on specific position for game start.
      */
@@ -27,9 +33,15 @@ public class GameView {
 
     private void setCamera() {
         camera = new PerspectiveCamera(80, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        placeCamera();
+    }
+
+    private void placeCamera() {
+        camera.up.set(Vector3.Y);
+        camera.direction.set(0, 0, -1);
         camera.position.set(0f, 7f, 10f);
         camera.lookAt(0, 4f, 0);
-        camera.far = 235f;
+        camera.far = far;
         camera.near = 1f;
         camera.update();
     }
@@ -52,6 +64,23 @@ public class GameView {
         return instance;
     }
 
+    /**
+     * Sets this camera far plane distance.
+     * @param far this far new value
+     */
+    public void setFar(float far) {
+        this.far = far;
+        camera.far = far;
+        camera.update();
+    }
+
+    /**
+     * Places this camera back on its game start position.
+     */
+    public void restart() {
+        placeCamera();
+    }
+
     /**
      * Sets this instance to null.
      */
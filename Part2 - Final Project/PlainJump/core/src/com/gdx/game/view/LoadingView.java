@@ -0,0 +1,112 @@
+package com.gdx.game.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * This class draws the loading screen shown while the game starts, a
+ * progress bar and the step being loaded. It only uses the font embedded
+ * in libGDX, so it can be drawn on the very first frame.
+ */
+public class LoadingView {
+
+    /**
+     * this view progress bar width, relative to the screen width
+     */
+    private static final float BAR_WIDTH = 0.6f;
+
+    /**
+     * this view progress bar height, in pixels
+     */
+    private static final float BAR_HEIGHT = 12;
+
+    /**
+     * this view background color
+     */
+    private static final Color BACKGROUND = Color.GRAY;
+
+    /**
+     * this view sprite batch
+     */
+    private SpriteBatch batch;
+
+    /**
+     * this view shape renderer, drawing the progress bar
+     */
+    private ShapeRenderer shapes;
+
+    /**
+     * this view font, embedded in libGDX
+     */
+    private BitmapFont font;
+
+    /**
+     * this view projection, in screen pixels
+     */
+    private Matrix4 projection;
+
+    /**
+     * Creates a loading view of the screen size.
+     */
+    public LoadingView() {
+        batch = new SpriteBatch();
+        shapes = new ShapeRenderer();
+        font = new BitmapFont();
+        projection = new Matrix4();
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    /**
+     * Renders this view.
+     * @param progress the loading progress, between 0 and 1
+     * @param step the name of the step being loaded, null if none
+     */
+    public void render(float progress, String step) {
+        Gdx.gl.glClearColor(BACKGROUND.r, BACKGROUND.g, BACKGROUND.b, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barWidth = width * BAR_WIDTH;
+        float barX = (width - barWidth) / 2;
+        float barY = height / 2 - BAR_HEIGHT / 2;
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(Color.DARK_GRAY);
+        shapes.rect(barX, barY, barWidth, BAR_HEIGHT);
+        shapes.setColor(Color.ORANGE);
+        shapes.rect(barX, barY, barWidth * Math.min(Math.max(progress, 0), 1), BAR_HEIGHT);
+        shapes.end();
+
+        if(step != null) {
+            batch.begin();
+            font.draw(batch, step, barX, barY + BAR_HEIGHT + 2 * font.getLineHeight());
+            batch.end();
+        }
+    }
+
+    /**
+     * Resizes this view.
+     * @param width this view new width
+     * @param height this view new height
+     */
+    public void resize(int width, int height) {
+        projection.setToOrtho2D(0, 0, width, height);
+        batch.setProjectionMatrix(projection);
+        shapes.setProjectionMatrix(projection);
+    }
+
+    /**
+     * Disposes of this view.
+     */
+    public void dispose() {
+        batch.dispose();
+        shapes.dispose();
+        font.dispose();
+    }
+}
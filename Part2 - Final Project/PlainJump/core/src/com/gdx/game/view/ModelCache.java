@@ -0,0 +1,143 @@
+package com.gdx.game.view;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.gdx.game.utils.NativeTracker;
+
+/**
+ * This class builds and keeps the models shared by all entities with
+ * the same geometry, so identical plains, bonus or balls use a single
+ * mesh. Each instance carries its own color on its material copy.
+ * Models live as long as the game, whichever run first needed them.
+ */
+public class ModelCache {
+
+    /**
+     * this models node id, used by every instance
+     */
+    public static final String NODE_ID = "node";
+
+    /**
+     * this Singleton Instance
+     */
+    private static ModelCache instance = null;
+
+    /**
+     * this cache models, by shape key
+     */
+    private ObjectMap<String, Model> models;
+
+    /**
+     * this model builder
+     */
+    private ModelBuilder modelBuilder;
+
+    private ModelCache() {
+        models = new ObjectMap<String, Model>();
+        modelBuilder = new ModelBuilder();
+    }
+
+    /**
+     * Gets ModelCache Singleton instance.
+     * @return this ModelCache
+     */
+    public static ModelCache getInstance() {
+        if(instance == null)
+            instance = new ModelCache();
+        return instance;
+    }
+
+    /**
+     * Gets the box model with the given dimensions, building it on first use.
+     * @param w the box width
+     * @param h the box height
+     * @param d the box depth
+     * @return the shared box model
+     */
+    public Model getBox(float w, float h, float d) {
+        String key = "box" + w + "x" + h + "x" + d;
+        Model model = models.get(key);
+        if(model == null) {
+            modelBuilder.begin();
+            modelBuilder.node().id = NODE_ID;
+            modelBuilder.part("box", GL20.GL_TRIANGLES, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal, createMaterial())
+                    .box(w, h, d);
+            model = modelBuilder.end();
+            NativeTracker.getInstance().trackForGame(model);
+            models.put(key, model);
+        }
+        return model;
+    }
+
+    /**
+     * Gets the sphere model with the given diameter and divisions, building it on first use.
+     * @param diameter the sphere diameter
+     * @param divisions the sphere number of divisions, both in U and V
+     * @return the shared sphere model
+     */
+    public Model getSphere(float diameter, int divisions) {
+        String key = "sphere" + diameter + "x" + divisions;
+        Model model = models.get(key);
+        if(model == null) {
+            modelBuilder.begin();
+            modelBuilder.node().id = NODE_ID;
+            modelBuilder.part("sphere", GL20.GL_TRIANGLES, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal, createMaterial())
+                    .sphere(diameter, diameter, diameter, divisions, divisions);
+            model = modelBuilder.end();
+            NativeTracker.getInstance().trackForGame(model);
+            models.put(key, model);
+        }
+        return model;
+    }
+
+    /**
+     * Gets the disc model with the given diameter and divisions, facing +Z,
+     * building it on first use.
+     * @param diameter the disc diameter
+     * @param divisions the disc number of divisions around its center
+     * @return the shared disc model
+     */
+    public Model getDisc(float diameter, int divisions) {
+        String key = "disc" + diameter + "x" + divisions;
+        Model model = models.get(key);
+        if(model == null) {
+            modelBuilder.begin();
+            modelBuilder.node().id = NODE_ID;
+            modelBuilder.part("disc", GL20.GL_TRIANGLES, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal, createMaterial())
+                    .circle(diameter / 2, divisions, 0, 0, 0, 0, 0, 1);
+            model = modelBuilder.end();
+            NativeTracker.getInstance().trackForGame(model);
+            models.put(key, model);
+        }
+        return model;
+    }
+
+    private Material createMaterial() {
+        return new Material(ColorAttribute.createDiffuse(Color.WHITE));
+    }
+
+    /**
+     * Gets the number of models built.
+     * @return this models size
+     */
+    public int size() {
+        return models.size;
+    }
+
+    /**
+     * Disposes of all models built.
+     */
+    public void dispose() {
+        for (Model model : models.values()) {
+            model.dispose();
+            NativeTracker.getInstance().untrack(model);
+        }
+        models.clear();
+    }
+}
@@ -1,14 +1,9 @@
 package com.gdx.game.view.entities;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.VertexAttributes;
-import com.badlogic.gdx.graphics.g3d.Material;
-import com.badlogic.gdx.graphics.g3d.Model;
-import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
-import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
 import com.gdx.game.utils.BodyInstance;
+import com.gdx.game.view.ModelCache;
 
 /**
  * This class is used to store a BodyInstance that represents the visual
@@ -16,6 +11,16 @@ import com.gdx.game.utils.BodyInstance;
  */
 public class BallView extends EntityView {
 
+    /**
+     * this ball sphere divisions, both in U and V, at full quality
+     */
+    public static final int DIVISIONS = 30;
+
+    /**
+     * this ball sphere diameter
+     */
+    private float diameter;
+
     /*******************CONSTRUCTORS*******************/
 
     /**
@@ -29,16 +34,16 @@ public class BallView extends EntityView {
     public BallView(float diameter, Color color, btCollisionShape shape, float mass)
     {
         super();
-        setBodyInstance(new BodyInstance(buildModel(diameter,color),"ball",shape,mass));
+        this.diameter = diameter;
+        setBodyInstance(new BodyInstance(ModelCache.getInstance().getSphere(diameter, DIVISIONS),ModelCache.NODE_ID,shape,mass));
+        setColor(color);
     }
 
-    private Model buildModel(float diameter, Color color) {
-        Material material = new Material(ColorAttribute.createDiffuse(color));
-        ModelBuilder modelBuilder = new ModelBuilder();
-        modelBuilder.begin();
-        modelBuilder.node().id = String.format("ball");
-        modelBuilder.part("sphere", GL20.GL_TRIANGLES, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal, material)
-                .sphere(diameter,diameter,diameter, 30, 30);
-        return modelBuilder.end();
+    /**
+     * Retrieve the value of this ball sphere diameter.
+     * @return this diameter
+     */
+    public float getDiameter() {
+        return diameter;
     }
 }
@@ -1,14 +1,9 @@
 package com.gdx.game.view.entities;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.VertexAttributes;
-import com.badlogic.gdx.graphics.g3d.Material;
-import com.badlogic.gdx.graphics.g3d.Model;
-import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
-import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
 import com.gdx.game.utils.BodyInstance;
+import com.gdx.game.view.ModelCache;
 
 /**
  * This class is used to store a BodyInstance that represents the visual
@@ -17,6 +12,16 @@ import com.gdx.game.utils.BodyInstance;
  */
 public class BonusView extends EntityView {
 
+    /**
+     * this bonus sphere divisions, both in U and V, at full detail
+     */
+    public static final int DIVISIONS = 30;
+
+    /**
+     * this bonus sphere diameter
+     */
+    private float diameter;
+
     /**
      * Creates a bonus with a sphere BodyInstance with
      * specified diameter, color, shape and mass.
@@ -28,16 +33,16 @@ public class BonusView extends EntityView {
     public BonusView(String id, Color color, float diameter, btCollisionShape shape, float mass)
     {
         super();
-        setBodyInstance(new BodyInstance(buildModel(diameter,id,color), id, shape,mass));
+        this.diameter = diameter;
+        setBodyInstance(new BodyInstance(ModelCache.getInstance().getSphere(diameter, DIVISIONS), ModelCache.NODE_ID, shape,mass));
+        setColor(color);
     }
 
-    private Model buildModel(float diameter, String id, Color color) {
-        Material material = new Material(ColorAttribute.createDiffuse(color));
-        ModelBuilder modelBuilder = new ModelBuilder();
-        modelBuilder.begin();
-        modelBuilder.node().id = id;
-        modelBuilder.part("sphere", GL20.GL_TRIANGLES, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal, material)
-                .sphere(diameter, diameter, diameter, 30, 30);
-        return modelBuilder.end();
+    /**
+     * Retrieve the value of this bonus sphere diameter.
+     * @return this diameter
+     */
+    public float getDiameter() {
+        return diameter;
     }
 }
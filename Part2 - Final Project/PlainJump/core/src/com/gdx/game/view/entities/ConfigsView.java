@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
@@ -20,6 +19,8 @@ import com.gdx.game.controller.GameController;
 import com.gdx.game.controller.entities.MapController;
 import com.gdx.game.model.GameModel;
 import com.gdx.game.model.entities.ConfigsModel;
+import com.gdx.game.utils.NativeTracker;
+import com.gdx.game.view.FontCache;
 
 import java.util.ArrayList;
 
@@ -28,10 +29,6 @@ import java.util.ArrayList;
  */
 public class ConfigsView {
 
-    /**
-     * this used font path
-     */
-    private static final String FONT_PATH = "fonts/myfont.ttf";
     /**
      * this play button text
      */
@@ -85,11 +82,6 @@ public class ConfigsView {
      */
     private BitmapFont playButtonFont;
 
-    /**
-     * this FreeType extension font generator
-     */
-    private FreeTypeFontGenerator generator;
-
     /**
      * this pixmap
      */
@@ -122,14 +114,14 @@ public class ConfigsView {
     public ConfigsView() {
 
         spriteBatch = new SpriteBatch();
+        NativeTracker.getInstance().track(spriteBatch, NativeTracker.Kind.SPRITE_BATCH);
         stage = new Stage();
+        NativeTracker.getInstance().track(stage, NativeTracker.Kind.STAGE);
         Gdx.input.setInputProcessor(stage);
         table = new Table();
         table.setBounds(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         stage.addActor(table);
 
-        generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_PATH));
-
         addLabels();
 
         table.row();
@@ -143,9 +135,7 @@ public class ConfigsView {
     }
 
     private void addLabels() {
-        FreeTypeFontGenerator.FreeTypeFontParameter parameterLabel = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameterLabel.size = 50;
-        labelFont = generator.generateFont(parameterLabel);
+        labelFont = FontCache.getInstance().get(50);
         labelStyle = new Label.LabelStyle();
         labelStyle.font = labelFont;
         ballLabel = new Label(BALL_LABEL_TEXT,labelStyle);
@@ -159,9 +149,8 @@ public class ConfigsView {
     }
 
     private void addPlayButton() {
-        FreeTypeFontGenerator.FreeTypeFontParameter parameterButton = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameterButton.size = 30;
-        playButtonFont = generator.generateFont(parameterButton);
+        int letterSize = 30;
+        playButtonFont = FontCache.getInstance().get(letterSize);
         playButtonStyle = new TextButton.TextButtonStyle();
         playButtonStyle.font = playButtonFont;
         playButton = new TextButton(PLAY_BTN_TEXT, playButtonStyle);
@@ -172,7 +161,7 @@ public class ConfigsView {
             }
         } );
         table.row();
-        table.add(playButton).height(Gdx.graphics.getHeight()/2).expandX().bottom().left().maxHeight(parameterButton.size+10).padLeft(8);
+        table.add(playButton).height(Gdx.graphics.getHeight()/2).expandX().bottom().left().maxHeight(letterSize+10).padLeft(8);
     }
 
     private void AddColorsButtons() {
@@ -216,8 +205,9 @@ public class ConfigsView {
      */
     public void dispose() {
         spriteBatch.dispose();
+        NativeTracker.getInstance().untrack(spriteBatch);
         stage.dispose();
-        generator.dispose();
+        NativeTracker.getInstance().untrack(stage);
     }
 
 
@@ -1,5 +1,8 @@
 package com.gdx.game.view.entities;
 
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.collision.BoundingBox;
 import com.gdx.game.utils.BodyInstance;
 
 /**
@@ -10,10 +13,27 @@ public abstract class EntityView {
 
     private BodyInstance bodyInstance;
 
+    /**
+     * This view bounding sphere radius, around the bodyInstance origin
+     */
+    private float radius;
+
+    /**
+     * This view visibility, false when it should not be rendered
+     */
+    private boolean visible;
+
+    /**
+     * This view revision, changed every time it is moved without continuity
+     */
+    private int revision;
+
     /**
      * Creates an EntityView without defined BodyInstance.
      */
     public EntityView(){
+        visible = true;
+        revision = 0;
     }
 
     /**
@@ -40,6 +60,64 @@ public abstract class EntityView {
      */
     public void setBodyInstance(BodyInstance bodyInstance) {
         this.bodyInstance = bodyInstance;
+        BoundingBox bounds = bodyInstance.calculateBoundingBox(new BoundingBox());
+        radius = Math.max(bounds.min.len(), bounds.max.len());
+    }
+
+    /**
+     * Indicates if this view is visible.
+     * @return this visible
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Sets this view visibility.
+     * @param visible this visible new value
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
+
+    /**
+     * Gets this view bounding sphere radius, around the bodyInstance origin.
+     * @return this radius
+     */
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Sets this bodyInstance material diffuse color.
+     * @param color this bodyInstance new color
+     */
+    public void setColor(Color color) {
+        ((ColorAttribute)bodyInstance.materials.get(0).get(ColorAttribute.Diffuse)).color.set(color);
+    }
+
+    /**
+     * Marks this view as moved without continuity, such as when replaced,
+     * so it is not interpolated from its previous position.
+     */
+    public void markTeleported() {
+        ++revision;
+    }
+
+    /**
+     * Gets this view revision, changed every time it is moved without continuity.
+     * @return this revision
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Gets this bodyInstance material diffuse color.
+     * @return this bodyInstance color
+     */
+    public Color getColor() {
+        return ((ColorAttribute)bodyInstance.materials.get(0).get(ColorAttribute.Diffuse)).color;
     }
 
     /**
@@ -3,7 +3,6 @@ package com.gdx.game.view.entities;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -12,14 +11,11 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.gdx.game.controller.GameController;
 import com.gdx.game.model.entities.EntryModel;
+import com.gdx.game.utils.NativeTracker;
+import com.gdx.game.view.FontCache;
 
 public class EntryView {
 
-    /**
-     * this used font path
-     */
-    private static final String FONT_PATH = "fonts/myfont.ttf";
-
     /**
      * this settings button text
      */
@@ -75,11 +71,6 @@ public class EntryView {
      */
     private Label.LabelStyle labelStyle;
 
-    /**
-     * this FreeType extension font generator
-     */
-    private FreeTypeFontGenerator generator;
-
     /**
      * this sprite batch
      */
@@ -101,8 +92,10 @@ public class EntryView {
     public EntryView() {
 
         spriteBatch = new SpriteBatch();
+        NativeTracker.getInstance().track(spriteBatch, NativeTracker.Kind.SPRITE_BATCH);
 
         stage = new Stage();
+        NativeTracker.getInstance().track(stage, NativeTracker.Kind.STAGE);
         Gdx.input.setInputProcessor(stage);
 
         table = new Table();
@@ -110,11 +103,6 @@ public class EntryView {
 
         stage.addActor(table);
 
-        generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_PATH));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameterScore = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameterScore.size = 45;
-        font = generator.generateFont(parameterScore);
-
         addHighScorelabels();
 
         addPlayButton();
@@ -151,9 +139,7 @@ public class EntryView {
     }
 
     private void addHighScorelabels() {
-        FreeTypeFontGenerator.FreeTypeFontParameter parameterLabel = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameterLabel.size = 50;
-        font = generator.generateFont(parameterLabel);
+        font = FontCache.getInstance().get(50);
         labelStyle = new Label.LabelStyle();
         labelStyle.font = font;
         highscoreLabel = new Label(HIGHSCORE_LABEL_TEXT,labelStyle);
@@ -179,8 +165,9 @@ public class EntryView {
      */
     public void dispose() {
         spriteBatch.dispose();
+        NativeTracker.getInstance().untrack(spriteBatch);
         stage.dispose();
-        generator.dispose();
+        NativeTracker.getInstance().untrack(stage);
     }
 
     /**
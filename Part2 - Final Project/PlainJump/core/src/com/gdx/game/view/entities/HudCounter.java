@@ -0,0 +1,67 @@
+package com.gdx.game.view.entities;
+
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * This class formats a live HUD value as a fixed prefix followed by the
+ * value. The text is only rewritten when the value shown changes, so its
+ * label only needs a new text, and a new layout, on those updates. The
+ * text is formatted into a reused builder, so updates allocate nothing.
+ */
+public class HudCounter {
+
+    /**
+     * this counter text before the value
+     */
+    private final String prefix;
+
+    /**
+     * this counter text, reused on every update
+     */
+    private final StringBuilder text;
+
+    /**
+     * this counter value shown
+     */
+    private int shown;
+
+    /**
+     * this counter flag set once a value was shown
+     */
+    private boolean set;
+
+    /**
+     * Creates a counter of integer values.
+     * @param prefix the text before the value
+     */
+    public HudCounter(String prefix) {
+        this.prefix = prefix;
+        text = new StringBuilder(prefix.length() + 11);
+        set = false;
+    }
+
+    /**
+     * Shows the given value.
+     * @param value the value to show
+     * @return true if this text changed, false otherwise
+     */
+    public boolean set(int value) {
+        if (set && value == shown)
+            return false;
+        set = true;
+        shown = value;
+
+        text.setLength(0);
+        text.append(prefix);
+        text.append(value);
+        return true;
+    }
+
+    /**
+     * Gets the text shown by this counter, reused on every change.
+     * @return this text
+     */
+    public StringBuilder getText() {
+        return text;
+    }
+}
@@ -1,15 +1,22 @@
 package com.gdx.game.view.entities;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.g3d.Environment;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -17,10 +24,17 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.gdx.game.controller.GameController;
+import com.gdx.game.controller.MusicController;
 import com.gdx.game.controller.entities.MapController;
 import com.gdx.game.model.entities.MapModel;
-import com.gdx.game.utils.BodyInstance;
+import com.gdx.game.view.FontCache;
+import com.gdx.game.utils.FrameProfiler;
+import com.gdx.game.utils.NativeTracker;
+import com.gdx.game.utils.TransformSnapshot;
 
 /**
  * This class is used to load the entire level making it
@@ -28,10 +42,6 @@ import com.gdx.game.utils.BodyInstance;
  */
 public class MapView {
 
-    /**
-     * this used font path
-     */
-    private static final String FONT_PATH = "fonts/myfont.ttf";
     /**
      * this mute button text
      */
@@ -48,6 +58,10 @@ public class MapView {
      * this exit label text
      */
     private static final String EXIT_BTN_TEXT = "EXIT";
+    /**
+     * this number of frames between profiler overlay refreshes
+     */
+    private static final int PROFILER_REFRESH_FRAMES = 30;
 
     /**
      * this Singleton Instance
@@ -65,7 +79,95 @@ public class MapView {
     /**
      * This instances
      */
-    private Array<BodyInstance> instances;
+    private Array<EntityView> instances;
+    /**
+     * This instances copies drawn on the snapshot transforms, one per instance
+     */
+    private Array<ModelInstance> drawnInstances;
+    /**
+     * This instances snapshot slots, one per instance
+     */
+    private IntArray instanceSlots;
+    /**
+     * This drawn instances levels of detail, one per instance, null for instances always drawn at full detail
+     */
+    private Array<SphereLod> lods;
+    /**
+     * This drawn instances not culled on current frame
+     */
+    private Array<ModelInstance> renderedInstances;
+    /**
+     * This plains snapshot slots
+     */
+    private IntArray plainSlots;
+    /**
+     * This plains rows on the plains batch, one per plain slot
+     */
+    private IntArray plainRows;
+    /**
+     * This plains positions on their row, one per plain slot
+     */
+    private IntArray plainColumns;
+    /**
+     * This plains revision and color last copied to the plains batch, per plain slot
+     */
+    private FloatArray plainsApplied;
+    /**
+     * This plains, drawn as a single mesh
+     */
+    private PlainBatch plainBatch;
+    /**
+     * This plains depth, the distance between rows
+     */
+    private float plainDepth;
+    /**
+     * This number of plain rows drawn ahead of the camera
+     */
+    private int drawnRows;
+    /**
+     * This map render resolution, relative to the screen
+     */
+    private float renderScale = 1;
+    /**
+     * This frame buffer the map is rendered to when renderScale is below 1, null otherwise
+     */
+    private FrameBuffer frameBuffer;
+    /**
+     * This snapshot of the map entities, published by the simulation
+     */
+    private TransformSnapshot snapshot;
+    /**
+     * This snapshot data published the tick before the current one
+     */
+    private float[] previous;
+    /**
+     * This snapshot frame data currently drawn
+     */
+    private float[] current;
+    /**
+     * This snapshot tick published before the current one
+     */
+    private long previousTick;
+    /**
+     * This current snapshot frame tick
+     */
+    private long currentTick;
+    /**
+     * This current snapshot frame time, in nanoseconds
+     */
+    private long currentTime;
+    /**
+     * This matrix used to copy snapshot transforms
+     */
+    private Matrix4 snapshotTransform;
+    /**
+     * This color used to copy snapshot colors
+     */
+    private Color snapshotColor;
+    /**
+     * This vector used to test instances against the frustum
+     */
+    private Vector3 center;
     /**
      * This environment
      */
@@ -91,9 +193,9 @@ public class MapView {
      */
     private SpriteBatch spriteBatch;
     /**
-     * this score text
+     * this score counter, shown on the score label
      */
-    private String scoreText;
+    private HudCounter scoreCounter;
     /**
      * this bitmap font
      */
@@ -134,19 +236,29 @@ public class MapView {
      * This buttons bitmap font
      */
     private BitmapFont buttonFont;
-    /**
-     * this FreeType extension font generator
-     */
-    private FreeTypeFontGenerator generator;
 
     /**
      * This view flag announcing that GameOver Label is already being shown
      */
     private boolean gameOverView;
 
+    /**
+     * this frame profiler
+     */
+    private FrameProfiler profiler;
+    /**
+     * this frame profiler overlay text
+     */
+    private StringBuilder profilerText;
+    /**
+     * this frame profiler overlay font
+     */
+    private BitmapFont profilerFont;
+
     private MapView() {
         modelBatch = new ModelBatch();
         spriteBatch = new SpriteBatch();
+        NativeTracker.getInstance().track(spriteBatch, NativeTracker.Kind.SPRITE_BATCH);
 
         environment = new Environment();
 
@@ -157,9 +269,21 @@ public class MapView {
 
         addLigthToEnvironment();
 
-        instances = new Array<BodyInstance>();
+        instances = new Array<EntityView>();
+        drawnInstances = new Array<ModelInstance>();
+        lods = new Array<SphereLod>();
+        instanceSlots = new IntArray();
+        renderedInstances = new Array<ModelInstance>();
+        plainSlots = new IntArray();
+        plainRows = new IntArray();
+        plainColumns = new IntArray();
+        plainsApplied = new FloatArray();
+        snapshotTransform = new Matrix4();
+        snapshotColor = new Color();
+        center = new Vector3();
 
         stage = new Stage();
+        NativeTracker.getInstance().track(stage, NativeTracker.Kind.STAGE);
 
         table = new Table();
         table.setBounds(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
@@ -167,8 +291,6 @@ public class MapView {
         stage.addActor(table);
         Gdx.input.setInputProcessor(stage);
 
-        generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_PATH));
-
         addScoreLabel();
 
         addGameOverLabel();
@@ -178,47 +300,30 @@ public class MapView {
         addMuteButton();
 
         gameOverView = false;
+
+        profiler = FrameProfiler.getInstance();
+        profilerText = new StringBuilder();
+        profilerFont = new BitmapFont();
     }
 
     private void addMuteButton() {
-        int letterSize;FreeTypeFontGenerator.FreeTypeFontParameter parameterMuteButton = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        letterSize = 30;
-        parameterMuteButton.size = letterSize;
-        buttonFont = generator.generateFont(parameterMuteButton);
+        int letterSize = 30;
+        buttonFont = FontCache.getInstance().get(letterSize);
         textButtonStyle = new TextButton.TextButtonStyle();
         textButtonStyle.font = buttonFont;
         muteButton = new TextButton(MUTE_BTN_TEXT, textButtonStyle);
         muteButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                System.out.println("Muted");
-                switch (MapController.getInstance().getMusicState()) {
-                    case PLAY:
-                        System.out.println("from PLAY");
-                        MapController.getInstance().pauseBgMusic();
-                        MapController.getInstance().setMusicOnFlag(false);
-                        break;
-                    case PAUSE:
-                        System.out.println("from PAUSE");
-                        MapController.getInstance().resumeBgMusic();
-                        MapController.getInstance().setMusicOnFlag(true);
-                        break;
-                    case STOP:
-                        System.out.println("from STOP");
-                        MapController.getInstance().startBgMusic();
-                        MapController.getInstance().setMusicOnFlag(true);
-                        break;
-                }
+                MusicController.getInstance().toggle();
             }
         } );
         table.add(muteButton).height(Gdx.graphics.getHeight()/3).bottom().right().maxHeight(letterSize+10).padRight(8);
     }
 
     private void addExitButton() {
-        int letterSize;FreeTypeFontGenerator.FreeTypeFontParameter parameterButton = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        letterSize = 30;
-        parameterButton.size = letterSize;
-        buttonFont = generator.generateFont(parameterButton);
+        int letterSize = 30;
+        buttonFont = FontCache.getInstance().get(letterSize);
         textButtonStyle = new TextButton.TextButtonStyle();
         textButtonStyle.font = buttonFont;
         exitButton = new TextButton(EXIT_BTN_TEXT, textButtonStyle);
@@ -234,22 +339,20 @@ public class MapView {
     }
 
     private void addScoreLabel() {
-        FreeTypeFontGenerator.FreeTypeFontParameter parameterScore = new FreeTypeFontGenerator.FreeTypeFontParameter();
         int letterSize = 40;
-        parameterScore.size = letterSize;
-        scoreFont = generator.generateFont(parameterScore);
+        scoreFont = FontCache.getInstance().get(letterSize);
 
         textStyle = new Label.LabelStyle();
         textStyle.font = scoreFont;
-        text = new Label(SCORE_LABEL_TEXT + 0,textStyle);
+        scoreCounter = new HudCounter(SCORE_LABEL_TEXT);
+        scoreCounter.set(0);
+        text = new Label(scoreCounter.getText(),textStyle);
         table.add(text).height(Gdx.graphics.getHeight()/3).expandX().top().left().maxHeight(letterSize+10).padLeft(8).colspan(2);
     }
 
     private void addGameOverLabel() {
-        FreeTypeFontGenerator.FreeTypeFontParameter parameterScore = new FreeTypeFontGenerator.FreeTypeFontParameter();
         int letterSize = 90;
-        parameterScore.size = letterSize;
-        scoreFont = generator.generateFont(parameterScore);
+        scoreFont = FontCache.getInstance().get(letterSize);
 
         textStyle = new Label.LabelStyle();
         textStyle.font = scoreFont;
@@ -268,27 +371,122 @@ public class MapView {
     }
 
     /**
-     * Add to this MapView instances list the preferred PlainView
-     * @param pv PlainView to be added
+     * Sets the snapshot this MapView draws the instances, plains and camera from.
+     * @param snapshot the snapshot published by the simulation
      */
-    public void addInstance(PlainView pv) {
-        instances.add(pv.getBodyInstance());
+    public void setSnapshot(TransformSnapshot snapshot) {
+        this.snapshot = snapshot;
+        int size = TransformSnapshot.offset(snapshot.getSlots());
+        previous = new float[size];
+        current = new float[size];
+        previousTick = 0;
+        currentTick = 0;
+    }
+
+    /**
+     * Creates this MapView plains batch, replacing the previous one.
+     * @param rows number of plain rows
+     * @param plainsPerRow number of plains per row
+     * @param w the plains width
+     * @param h the plains height
+     * @param d the plains depth
+     */
+    public void setPlainRows(int rows, int plainsPerRow, float w, float h, float d) {
+        if(plainBatch != null)
+            plainBatch.dispose();
+        plainBatch = new PlainBatch(rows, plainsPerRow, w, h, d);
+        plainDepth = d;
+        drawnRows = rows;
+    }
+
+    /**
+     * Sets the number of plain rows drawn ahead of the camera.
+     * @param drawnRows this drawnRows new value
+     */
+    public void setDrawnRows(int drawnRows) {
+        this.drawnRows = drawnRows;
+    }
+
+    /**
+     * Draws the ball with a sphere of the given divisions from now on,
+     * its tier models being built by the model cache on first use.
+     * @param divisions the sphere number of divisions, both in U and V
+     */
+    public void setBallDivisions(int divisions) {
+        for (int i = 0; i < instances.size; ++i) {
+            if (instances.get(i) instanceof BallView)
+                lods.set(i, new SphereLod(((BallView) instances.get(i)).getDiameter(), divisions, false));
+        }
+    }
+
+    /**
+     * Sets the resolution the map is rendered at, relative to the screen,
+     * the stage is always drawn at the screen resolution.
+     * @param renderScale this renderScale new value, 1 to render on the screen
+     */
+    public void setRenderScale(float renderScale) {
+        this.renderScale = renderScale;
+        updateFrameBuffer(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    private void updateFrameBuffer(int width, int height) {
+        int bufferWidth = Math.max(1, Math.round(width * renderScale));
+        int bufferHeight = Math.max(1, Math.round(height * renderScale));
+        if(frameBuffer != null && (renderScale >= 1 || frameBuffer.getWidth() != bufferWidth || frameBuffer.getHeight() != bufferHeight)) {
+            frameBuffer.dispose();
+            NativeTracker.getInstance().untrack(frameBuffer);
+            frameBuffer = null;
+        }
+        if(frameBuffer == null && renderScale < 1) {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, bufferWidth, bufferHeight, true);
+            NativeTracker.getInstance().trackForGame(frameBuffer);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+    }
+
+    /**
+     * Add to this plains batch the plain on the given snapshot slot.
+     * @param slot the plain snapshot slot
+     * @param row the plain row
+     * @param column the plain position on its row
+     */
+    public void addPlain(int slot, int row, int column) {
+        plainSlots.add(slot);
+        plainRows.add(row);
+        plainColumns.add(column);
+        plainsApplied.add(-1);
+        plainsApplied.addAll(0, 0, 0, 0);
     }
 
     /**
      * Add to this MapView instances list the preferred BallView
      * @param bv BallView to be added
+     * @param slot the ball snapshot slot
      */
-    public void addInstance(BallView bv) {
-        instances.add(bv.getBodyInstance());
+    public void addInstance(BallView bv, int slot) {
+        addEntityView(bv, slot);
     }
 
     /**
      * Add to this MapView instances list the preferred BonusView
      * @param bv BonusView to be added
+     * @param slot the bonus snapshot slot
      */
-    public void addInstance(BonusView bv) {
-        instances.add(bv.getBodyInstance());
+    public void addInstance(BonusView bv, int slot) {
+        addEntityView(bv, slot);
+    }
+
+    private void addEntityView(EntityView ev, int slot) {
+        if(ev instanceof BallView) {
+            lods.add(new SphereLod(((BallView) ev).getDiameter(), BallView.DIVISIONS, false));
+        } else if(ev instanceof BonusView) {
+            lods.add(new SphereLod(((BonusView) ev).getDiameter(), BonusView.DIVISIONS, true));
+        } else {
+            lods.add(null);
+        }
+        instances.add(ev);
+        drawnInstances.add(new ModelInstance(ev.getBodyInstance()));
+        instanceSlots.add(slot);
     }
 
     /**
@@ -298,20 +496,150 @@ public class MapView {
      */
     public void render(PerspectiveCamera camera, boolean moving) {
 
+        if(frameBuffer != null)
+            frameBuffer.begin();
         clearScreen();
-        scoreText = SCORE_LABEL_TEXT + MapModel.getInstance().getScoreCount();
+        profiler.begin(FrameProfiler.Phase.MODEL_RENDER);
+        if(snapshot != null)
+            readSnapshot(camera);
+        cull(camera);
         modelBatch.begin(camera);
-        modelBatch.render(instances, environment);
+        modelBatch.render(renderedInstances, environment);
+        if(plainBatch != null)
+            modelBatch.render(plainBatch, environment);
         modelBatch.end();
+        profiler.end(FrameProfiler.Phase.MODEL_RENDER);
 
-        spriteBatch.begin();
+        if(frameBuffer != null) {
+            frameBuffer.end();
+            spriteBatch.begin();
+            spriteBatch.draw(frameBuffer.getColorBufferTexture(), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), 0, 1, 1, 0);
+            spriteBatch.end();
+        }
+
+        if(scoreCounter.set(MapModel.getInstance().getScoreCount()))
+            text.setText(scoreCounter.getText());
 
+        profiler.begin(FrameProfiler.Phase.STAGE_DRAW);
         if(moving) {
             stage.draw();
-            Gdx.input.setInputProcessor(stage);
+            if(Gdx.input.getInputProcessor() != stage)
+                Gdx.input.setInputProcessor(stage);
+        }
+        profiler.end(FrameProfiler.Phase.STAGE_DRAW);
+
+        if(profiler.isEnabled()) {
+            spriteBatch.begin();
+            drawProfiler();
+            spriteBatch.end();
         }
-        text.setText(scoreText);
-        spriteBatch.end();
+    }
+
+    /**
+     * Takes the latest snapshot frame, if any, and places the camera and
+     * the drawn instances between the current tick and the tick published
+     * before it, by the time elapsed since the current tick, snapping
+     * every instance when these ticks are not consecutive and instances whose
+     * revision changed. Plains are copied to the plains batch when their
+     * revision or color changed.
+     */
+    private void readSnapshot(PerspectiveCamera camera) {
+        if(snapshot.acquire()) {
+            TransformSnapshot.Frame front = snapshot.getFront();
+            profiler.merge(front.phases, front.counters);
+            System.arraycopy(front.previous, 0, previous, 0, previous.length);
+            System.arraycopy(front.data, 0, current, 0, current.length);
+            previousTick = front.previousTick;
+            currentTick = front.tick;
+            currentTime = front.time;
+        }
+
+        boolean interpolate = previousTick > 0 && previousTick + 1 == currentTick;
+        float alpha = 1;
+        if(interpolate)
+            alpha = MathUtils.clamp((TimeUtils.nanoTime() - currentTime) / (MapController.TICK * 1e9f), 0f, 1f);
+
+        if(currentTick > 0) {
+            if(interpolate)
+                camera.position.set(MathUtils.lerp(previous[0], current[0], alpha), MathUtils.lerp(previous[1], current[1], alpha),
+                        MathUtils.lerp(previous[2], current[2], alpha));
+            else
+                camera.position.set(current[0], current[1], current[2]);
+            camera.update();
+        }
+
+        for (int i = 0; i < drawnInstances.size; ++i) {
+            int offset = TransformSnapshot.offset(instanceSlots.get(i));
+            ModelInstance drawn = drawnInstances.get(i);
+            boolean snap = !interpolate || previous[offset + TransformSnapshot.REVISION] != current[offset + TransformSnapshot.REVISION];
+            for (int k = 0; k < 16; ++k)
+                drawn.transform.val[k] = snap ? current[offset + k] : MathUtils.lerp(previous[offset + k], current[offset + k], alpha);
+            ((ColorAttribute) drawn.materials.get(0).get(ColorAttribute.Diffuse)).color.set(current[offset + TransformSnapshot.COLOR],
+                    current[offset + TransformSnapshot.COLOR + 1], current[offset + TransformSnapshot.COLOR + 2], current[offset + TransformSnapshot.COLOR + 3]);
+        }
+
+        for (int i = 0; i < plainSlots.size; ++i) {
+            int offset = TransformSnapshot.offset(plainSlots.get(i));
+            boolean changed = plainsApplied.get(i * 5) != current[offset + TransformSnapshot.REVISION];
+            for (int k = 0; k < 4; ++k)
+                if (plainsApplied.get(i * 5 + 1 + k) != current[offset + TransformSnapshot.COLOR + k])
+                    changed = true;
+            if (!changed)
+                continue;
+            System.arraycopy(current, offset, snapshotTransform.val, 0, 16);
+            snapshotColor.set(current[offset + TransformSnapshot.COLOR], current[offset + TransformSnapshot.COLOR + 1],
+                    current[offset + TransformSnapshot.COLOR + 2], current[offset + TransformSnapshot.COLOR + 3]);
+            plainBatch.set(plainRows.get(i), plainColumns.get(i), snapshotTransform, snapshotColor);
+            plainsApplied.set(i * 5, current[offset + TransformSnapshot.REVISION]);
+            for (int k = 1; k < 5; ++k)
+                plainsApplied.set(i * 5 + k, current[offset + TransformSnapshot.COLOR + k - 1]);
+        }
+    }
+
+    private boolean isVisible(int i) {
+        return current == null || current[TransformSnapshot.offset(instanceSlots.get(i)) + TransformSnapshot.VISIBLE] != 0;
+    }
+
+    private void cull(PerspectiveCamera camera) {
+        renderedInstances.clear();
+        int vertices = 0;
+        for (int i = 0; i < drawnInstances.size; ++i) {
+            ModelInstance drawn = drawnInstances.get(i);
+            if (!isVisible(i) || !camera.frustum.sphereInFrustum(drawn.transform.getTranslation(center), instances.get(i).getRadius()))
+                continue;
+            SphereLod lod = lods.get(i);
+            if (lod == null) {
+                renderedInstances.add(drawn);
+                vertices += drawn.model.meshes.first().getNumVertices();
+            } else {
+                renderedInstances.add(lod.select(drawn, camera.position, camera.direction));
+                vertices += lod.getVertices();
+            }
+        }
+        int rendered = renderedInstances.size;
+        int culled = instances.size - rendered;
+
+        if(plainBatch != null) {
+            plainBatch.cull(camera.frustum, camera.position.z - drawnRows * plainDepth);
+            rendered += plainBatch.size() - plainBatch.getCulled();
+            culled += plainBatch.getCulled();
+            vertices += plainBatch.getVertices();
+        }
+
+        profiler.count(FrameProfiler.Counter.RENDERED_INSTANCES, rendered);
+        profiler.count(FrameProfiler.Counter.CULLED_INSTANCES, culled);
+        profiler.count(FrameProfiler.Counter.RENDERED_VERTICES, vertices);
+    }
+
+    private void drawProfiler() {
+        if(profiler.getFrames() % PROFILER_REFRESH_FRAMES == 0) {
+            profilerText.setLength(0);
+            profiler.appendSummary(profilerText);
+            NativeTracker tracker = NativeTracker.getInstance();
+            profilerText.append("native: ").append(tracker.getLive()).append(" objects, ~")
+                    .append(tracker.getEstimatedBytes() / 1024).append(" KB\n");
+        }
+        profilerFont.draw(spriteBatch, profilerText, 8, Gdx.graphics.getHeight() - 60);
     }
 
     /**
@@ -319,9 +647,17 @@ public class MapView {
      */
     public void dispose() {
         modelBatch.dispose();
+        if(plainBatch != null)
+            plainBatch.dispose();
+        if(frameBuffer != null) {
+            frameBuffer.dispose();
+            NativeTracker.getInstance().untrack(frameBuffer);
+        }
         spriteBatch.dispose();
+        NativeTracker.getInstance().untrack(spriteBatch);
         stage.dispose();
-        generator.dispose();
+        NativeTracker.getInstance().untrack(stage);
+        profilerFont.dispose();
     }
 
     private void clearScreen() {
@@ -351,7 +687,7 @@ public class MapView {
      * Retrieve the value of this MapView instances.
      * @return this MapView instances
      */
-    public Array<BodyInstance> getInstances() {
+    public Array<EntityView> getInstances() {
         return instances;
     }
 
@@ -376,6 +712,17 @@ public class MapView {
         }
     }
 
+    /**
+     * Restarts this MapView for a new run, hiding the game over label
+     * and drawing the next snapshot without interpolation.
+     */
+    public void restart() {
+        gameOverLabel.setVisible(false);
+        gameOverView = false;
+        previousTick = 0;
+        currentTick = 0;
+    }
+
     /**
      * Resizes this stage viewport accordingly to the given parameters.
      * @param width this stage new width
@@ -383,5 +730,7 @@ public class MapView {
      */
     public void resize(int width, int height) {
         stage.getViewport().update(width,height);
+        spriteBatch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        updateFrameBuffer(width, height);
     }
 }
\ No newline at end of file
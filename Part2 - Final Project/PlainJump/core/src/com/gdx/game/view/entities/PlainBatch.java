@@ -0,0 +1,323 @@
+package com.gdx.game.view.entities;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.RenderableProvider;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+import com.gdx.game.utils.NativeTracker;
+
+/**
+ * This class draws every plain of the map as a single static mesh, with
+ * the plains of each row stored contiguously. The vertices of a row are
+ * only rebuilt and uploaded when one of its plains is moved or recolored.
+ * As each row covers a slice of the corridor along the Z axis, rows are
+ * culled against the camera frustum by their bounds, and each run of
+ * consecutive visible rows costs one draw call.
+ */
+public class PlainBatch implements RenderableProvider, Disposable {
+
+    /**
+     * number of floats per vertex: position, normal and packed color
+     */
+    private static final int VERTEX_SIZE = 7;
+
+    /**
+     * number of vertices per plain, four per box face
+     */
+    private static final int VERTICES_PER_PLAIN = 24;
+
+    /**
+     * number of indices per plain, two triangles per box face
+     */
+    private static final int INDICES_PER_PLAIN = 36;
+
+    /**
+     * box face normals, each face built from the four corners around it
+     */
+    private static final float[][] NORMALS = {
+            {0, 0, 1}, {0, 0, -1}, {0, 1, 0}, {0, -1, 0}, {1, 0, 0}, {-1, 0, 0}
+    };
+
+    /**
+     * This batch number of rows
+     */
+    private int rows;
+
+    /**
+     * This batch number of plains per row
+     */
+    private int plainsPerRow;
+
+    /**
+     * This batch mesh, holding every plain
+     */
+    private Mesh mesh;
+
+    /**
+     * This batch vertices, mirrored from the mesh
+     */
+    private float[] vertices;
+
+    /**
+     * This batch plain vertices on local space
+     */
+    private float[] localVertices;
+
+    /**
+     * This batch rows needing upload
+     */
+    private boolean[] dirty;
+
+    /**
+     * This batch rows bounds, one slice of the corridor each
+     */
+    private BoundingBox[] bounds;
+
+    /**
+     * This batch rows whose bounds must be recomputed
+     */
+    private boolean[] boundsDirty;
+
+    /**
+     * This batch rows inside the frustum on the last cull
+     */
+    private boolean[] visible;
+
+    /**
+     * This batch number of plains culled on the last cull
+     */
+    private int culled;
+
+    /**
+     * This batch renderable, reused every frame
+     */
+    private Renderable renderable;
+
+    /**
+     * This batch vector used to transform vertices
+     */
+    private Vector3 tmp;
+
+    /**
+     * Creates a batch for rows * plainsPerRow plains with the given dimensions.
+     * @param rows number of rows
+     * @param plainsPerRow number of plains per row
+     * @param w the plains width
+     * @param h the plains height
+     * @param d the plains depth
+     */
+    public PlainBatch(int rows, int plainsPerRow, float w, float h, float d) {
+        this.rows = rows;
+        this.plainsPerRow = plainsPerRow;
+
+        int plains = rows * plainsPerRow;
+        mesh = new Mesh(false, plains * VERTICES_PER_PLAIN, plains * INDICES_PER_PLAIN,
+                new VertexAttribute(VertexAttributes.Usage.Position, 3, "a_position"),
+                new VertexAttribute(VertexAttributes.Usage.Normal, 3, "a_normal"),
+                VertexAttribute.ColorPacked());
+        NativeTracker.getInstance().track(mesh);
+        vertices = new float[plains * VERTICES_PER_PLAIN * VERTEX_SIZE];
+        dirty = new boolean[rows];
+        boundsDirty = new boolean[rows];
+        visible = new boolean[rows];
+        bounds = new BoundingBox[rows];
+        for (int row = 0; row < rows; ++row) {
+            bounds[row] = new BoundingBox();
+            visible[row] = true;
+        }
+        culled = 0;
+        tmp = new Vector3();
+
+        buildLocalVertices(w / 2, h / 2, d / 2);
+        buildIndices(plains);
+        mesh.setVertices(vertices);
+
+        renderable = new Renderable();
+        renderable.material = new Material(ColorAttribute.createDiffuse(Color.WHITE));
+        renderable.meshPart.set("plains", mesh, 0, plains * INDICES_PER_PLAIN, GL20.GL_TRIANGLES);
+        renderable.worldTransform.idt();
+    }
+
+    private void buildLocalVertices(float hw, float hh, float hd) {
+        localVertices = new float[VERTICES_PER_PLAIN * 6];
+        int v = 0;
+        for (float[] n : NORMALS) {
+            for (int corner = 0; corner < 4; ++corner) {
+                float a = (corner == 1 || corner == 2) ? 1 : -1;
+                float b = corner >= 2 ? 1 : -1;
+                float x, y, z;
+                if (n[0] != 0) {
+                    x = n[0];
+                    y = a;
+                    z = b * n[0];
+                } else if (n[1] != 0) {
+                    x = a;
+                    y = n[1];
+                    z = -b * n[1];
+                } else {
+                    x = a * n[2];
+                    y = b;
+                    z = n[2];
+                }
+                localVertices[v++] = x * hw;
+                localVertices[v++] = y * hh;
+                localVertices[v++] = z * hd;
+                localVertices[v++] = n[0];
+                localVertices[v++] = n[1];
+                localVertices[v++] = n[2];
+            }
+        }
+    }
+
+    private void buildIndices(int plains) {
+        short[] indices = new short[plains * INDICES_PER_PLAIN];
+        int i = 0;
+        for (int face = 0; face < plains * 6; ++face) {
+            short first = (short) (face * 4);
+            indices[i++] = first;
+            indices[i++] = (short) (first + 1);
+            indices[i++] = (short) (first + 2);
+            indices[i++] = (short) (first + 2);
+            indices[i++] = (short) (first + 3);
+            indices[i++] = first;
+        }
+        mesh.setIndices(indices);
+    }
+
+    /**
+     * Places the plain on the given row and column with the given
+     * transform and color, marking its row for upload.
+     * @param row the plain row
+     * @param column the plain position on its row
+     * @param transform the plain world transform
+     * @param color the plain color
+     */
+    public void set(int row, int column, Matrix4 transform, Color color) {
+        float packedColor = color.toFloatBits();
+        int v = (row * plainsPerRow + column) * VERTICES_PER_PLAIN * VERTEX_SIZE;
+        for (int l = 0; l < localVertices.length; l += 6) {
+            tmp.set(localVertices[l], localVertices[l + 1], localVertices[l + 2]).mul(transform);
+            vertices[v++] = tmp.x;
+            vertices[v++] = tmp.y;
+            vertices[v++] = tmp.z;
+            tmp.set(localVertices[l + 3], localVertices[l + 4], localVertices[l + 5]).rot(transform);
+            vertices[v++] = tmp.x;
+            vertices[v++] = tmp.y;
+            vertices[v++] = tmp.z;
+            vertices[v++] = packedColor;
+        }
+        dirty[row] = true;
+        boundsDirty[row] = true;
+    }
+
+    private void updateBounds(int row) {
+        int rowSize = plainsPerRow * VERTICES_PER_PLAIN * VERTEX_SIZE;
+        bounds[row].inf();
+        for (int v = row * rowSize; v < (row + 1) * rowSize; v += VERTEX_SIZE)
+            bounds[row].ext(vertices[v], vertices[v + 1], vertices[v + 2]);
+        boundsDirty[row] = false;
+    }
+
+    /**
+     * Marks the rows outside the given frustum to be skipped when rendering.
+     * @param frustum the camera frustum
+     */
+    public void cull(Frustum frustum) {
+        cull(frustum, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Marks the rows outside the given frustum, or entirely beyond the
+     * given depth, to be skipped when rendering.
+     * @param frustum the camera frustum
+     * @param farZ the Z coordinate beyond which, towards -Z, rows are skipped
+     */
+    public void cull(Frustum frustum, float farZ) {
+        culled = 0;
+        for (int row = 0; row < rows; ++row) {
+            if (boundsDirty[row])
+                updateBounds(row);
+            visible[row] = bounds[row].max.z >= farZ && frustum.boundsInFrustum(bounds[row]);
+            if (!visible[row])
+                culled += plainsPerRow;
+        }
+    }
+
+    private void upload() {
+        int rowSize = plainsPerRow * VERTICES_PER_PLAIN * VERTEX_SIZE;
+        for (int row = 0; row < rows; ++row) {
+            if (!dirty[row])
+                continue;
+            int last = row;
+            while (last + 1 < rows && dirty[last + 1])
+                ++last;
+            mesh.updateVertices(row * rowSize, vertices, row * rowSize, (last - row + 1) * rowSize);
+            for (int r = row; r <= last; ++r)
+                dirty[r] = false;
+            row = last;
+        }
+    }
+
+    @Override
+    public void getRenderables(Array<Renderable> renderables, Pool<Renderable> pool) {
+        upload();
+        int rowIndices = plainsPerRow * INDICES_PER_PLAIN;
+        for (int row = 0; row < rows; ++row) {
+            if (!visible[row])
+                continue;
+            int last = row;
+            while (last + 1 < rows && visible[last + 1])
+                ++last;
+            Renderable range = pool.obtain().set(renderable);
+            range.meshPart.offset = row * rowIndices;
+            range.meshPart.size = (last - row + 1) * rowIndices;
+            renderables.add(range);
+            row = last;
+        }
+    }
+
+    /**
+     * Gets this batch number of plains.
+     * @return rows * plainsPerRow
+     */
+    public int size() {
+        return rows * plainsPerRow;
+    }
+
+    /**
+     * Gets the number of vertices of the plains not culled on the last cull.
+     * @return the rendered vertices
+     */
+    public int getVertices() {
+        return (size() - culled) * VERTICES_PER_PLAIN;
+    }
+
+    /**
+     * Gets the number of plains culled on the last cull.
+     * @return this culled
+     */
+    public int getCulled() {
+        return culled;
+    }
+
+    /**
+     * Disposes of this batch mesh.
+     */
+    @Override
+    public void dispose() {
+        mesh.dispose();
+        NativeTracker.getInstance().untrack(mesh);
+    }
+}
@@ -0,0 +1,151 @@
+package com.gdx.game.view.entities;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.Vector3;
+import com.gdx.game.view.ModelCache;
+
+/**
+ * This class draws a sphere with fewer divisions the further it is from
+ * the camera. Each tier halves the divisions of the previous one and is
+ * used up to a distance from the camera, in sphere radii, past which a
+ * sphere covers too few pixels to show the difference. Beyond the last
+ * tier the sphere is drawn as a disc facing the camera, if it has a
+ * billboard, or else with the last tier. The tier models are shared
+ * through the {@link ModelCache}.
+ */
+public class SphereLod {
+
+    /**
+     * distance from the camera, in sphere radii, up to which each sphere tier is used
+     */
+    public static final float[] TIER_RADII = {40, 100, 200};
+
+    /**
+     * minimum number of divisions of a sphere tier
+     */
+    public static final int MIN_DIVISIONS = 6;
+
+    /**
+     * number of divisions of the billboard disc
+     */
+    public static final int BILLBOARD_DIVISIONS = 10;
+
+    /**
+     * this lod sphere radius
+     */
+    private final float radius;
+
+    /**
+     * this lod instances, one per sphere tier then the billboard, if any
+     */
+    private final ModelInstance[] tiers;
+
+    /**
+     * this lod number of vertices of each tier
+     */
+    private final int[] vertices;
+
+    /**
+     * this lod billboard flag, set when drawn as a disc beyond the last tier
+     */
+    private final boolean billboard;
+
+    /**
+     * this lod tier selected on the last select
+     */
+    private int tier;
+
+    /**
+     * this vector used to compute the camera distance and facing
+     */
+    private final Vector3 tmp;
+
+    /**
+     * Creates the tiers of a sphere.
+     * @param diameter the sphere diameter
+     * @param divisions the sphere number of divisions of the nearest tier
+     * @param billboard true to draw the sphere as a disc beyond the last tier
+     */
+    public SphereLod(float diameter, int divisions, boolean billboard) {
+        radius = diameter / 2;
+        this.billboard = billboard;
+        int count = TIER_RADII.length + (billboard ? 1 : 0);
+        tiers = new ModelInstance[count];
+        vertices = new int[count];
+        for (int i = 0; i < TIER_RADII.length; ++i)
+            setTier(i, new ModelInstance(ModelCache.getInstance().getSphere(diameter, getDivisions(divisions, i)), ModelCache.NODE_ID));
+        if (billboard)
+            setTier(TIER_RADII.length, new ModelInstance(ModelCache.getInstance().getDisc(diameter, BILLBOARD_DIVISIONS), ModelCache.NODE_ID));
+        tier = 0;
+        tmp = new Vector3();
+    }
+
+    private void setTier(int i, ModelInstance instance) {
+        tiers[i] = instance;
+        vertices[i] = instance.model.meshes.first().getNumVertices();
+    }
+
+    /**
+     * Gets the number of divisions of the given sphere tier.
+     * @param divisions the number of divisions of the nearest tier
+     * @param tier the tier
+     * @return the tier number of divisions
+     */
+    public static int getDivisions(int divisions, int tier) {
+        return Math.max(MIN_DIVISIONS, divisions >> tier);
+    }
+
+    /**
+     * Gets the tier used at the given distance from the camera.
+     * @param distance the sphere distance from the camera
+     * @param radius the sphere radius
+     * @param billboard true if the sphere is drawn as a disc beyond the last tier
+     * @return the tier, TIER_RADII.length for the billboard
+     */
+    public static int getTier(float distance, float radius, boolean billboard) {
+        for (int i = 0; i < TIER_RADII.length; ++i)
+            if (distance <= TIER_RADII[i] * radius)
+                return i;
+        return billboard ? TIER_RADII.length : TIER_RADII.length - 1;
+    }
+
+    /**
+     * Selects the tier of the given sphere instance from its distance to
+     * the camera and places it on the instance transform and color.
+     * @param source the sphere instance, at full detail
+     * @param camera the camera position
+     * @param direction the camera direction
+     * @return the instance of the selected tier
+     */
+    public ModelInstance select(ModelInstance source, Vector3 camera, Vector3 direction) {
+        source.transform.getTranslation(tmp);
+        tier = getTier(tmp.dst(camera), radius, billboard);
+        ModelInstance drawn = tiers[tier];
+        if (tier < TIER_RADII.length) {
+            drawn.transform.set(source.transform);
+        } else {
+            drawn.transform.setToTranslation(tmp);
+            drawn.transform.rotate(Vector3.Z, tmp.set(direction).scl(-1));
+        }
+        ((ColorAttribute) drawn.materials.get(0).get(ColorAttribute.Diffuse)).color
+                .set(((ColorAttribute) source.materials.get(0).get(ColorAttribute.Diffuse)).color);
+        return drawn;
+    }
+
+    /**
+     * Gets the tier selected on the last select.
+     * @return this tier
+     */
+    public int getTier() {
+        return tier;
+    }
+
+    /**
+     * Gets the number of vertices of the tier selected on the last select.
+     * @return the tier number of vertices
+     */
+    public int getVertices() {
+        return vertices[tier];
+    }
+}
@@ -0,0 +1,43 @@
+package com.gdx.game.controller.entities;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EntityRegistryTest {
+
+    EntityRegistry registry = new EntityRegistry();
+
+    EntityController entity = new EntityController() {};
+
+    @Test
+    public void register() {
+        assertEquals(registry.register(entity, EntityRegistry.Type.BALL),0);
+        assertEquals(registry.register(entity, EntityRegistry.Type.PLAIN),1);
+        assertEquals(registry.size(),2);
+    }
+
+    @Test
+    public void get() {
+        int value = registry.register(entity, EntityRegistry.Type.BONUS);
+        assertSame(registry.get(value),entity);
+        assertEquals(registry.getType(value),EntityRegistry.Type.BONUS);
+        assertNull(registry.get(value + 1));
+        assertNull(registry.getType(-1));
+    }
+
+    @Test
+    public void grow() {
+        for (int i = 0; i < 300; ++i)
+            registry.register(entity, EntityRegistry.Type.PLAIN);
+        assertEquals(registry.getType(299),EntityRegistry.Type.PLAIN);
+    }
+
+    @Test
+    public void clear() {
+        registry.register(entity, EntityRegistry.Type.BALL);
+        registry.clear();
+        assertEquals(registry.size(),0);
+        assertNull(registry.get(0));
+    }
+}
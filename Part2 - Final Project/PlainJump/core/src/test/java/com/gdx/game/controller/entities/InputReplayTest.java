@@ -0,0 +1,67 @@
+package com.gdx.game.controller.entities;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InputReplayTest {
+
+    InputRecorder recorder = new InputRecorder(42);
+
+    InputFrame frame = new InputFrame();
+
+    @Test
+    public void roundTrip() {
+        frame.set(InputFrame.LEFT | InputFrame.SPACE, 0, 0.016f);
+        recorder.record(frame);
+        frame.set(InputFrame.TOUCH, -0.5f, 0.033f);
+        recorder.record(frame);
+        assertEquals(recorder.getFrames(),2);
+
+        InputReplay replay = new InputReplay(recorder.toByteArray());
+        assertEquals(replay.getSeed(),42);
+
+        assertTrue(replay.next(frame));
+        assertTrue(frame.isPressed(InputFrame.LEFT));
+        assertTrue(frame.isPressed(InputFrame.SPACE));
+        assertFalse(frame.isPressed(InputFrame.RIGHT));
+        assertEquals(frame.getGyroscopeX(),0,0);
+        assertEquals(frame.getDelta(),0.016f,0);
+
+        assertTrue(replay.next(frame));
+        assertEquals(frame.getKeys(),InputFrame.TOUCH);
+        assertEquals(frame.getGyroscopeX(),-0.5f,0);
+        assertEquals(frame.getDelta(),0.033f,0);
+
+        assertFalse(replay.next(frame));
+        assertEquals(replay.getFrames(),2);
+    }
+
+    @Test
+    public void compact() {
+        frame.set(InputFrame.RIGHT, 0, 0.016f);
+        for (int i = 0; i < 60; ++i)
+            recorder.record(frame);
+        assertEquals(recorder.toByteArray().length,13 + 60 * 5);
+    }
+
+    @Test
+    public void substeps() {
+        assertEquals(new InputReplay(recorder.toByteArray()).getSubsteps(),1);
+
+        InputRecorder substepped = new InputRecorder(42, 3);
+        frame.set(InputFrame.LEFT, 0, 0.016f);
+        substepped.record(frame);
+        InputReplay replay = new InputReplay(substepped.toByteArray());
+        assertEquals(replay.getSeed(),42);
+        assertEquals(replay.getSubsteps(),3);
+        assertTrue(replay.next(frame));
+        assertEquals(frame.getKeys(),InputFrame.LEFT);
+        assertFalse(replay.next(frame));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidStream() {
+        new InputReplay(new byte[] {1, 2, 3, 4, 5});
+    }
+}
@@ -0,0 +1,89 @@
+package com.gdx.game.controller.entities;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PlainRowGeneratorTest {
+
+    PlainRowGenerator generator = new PlainRowGenerator(new Random(42), 5, 7, 3, 2);
+
+    @After
+    public void stop() {
+        generator.stop();
+    }
+
+    @Test
+    public void centeredRows() {
+        generator.start();
+        for (int r = 0; r < 2; ++r) {
+            PlainRowGenerator.Row row = generator.next();
+            for (int plain = 0; plain < 5; ++plain) {
+                assertEquals(row.getX(plain),3);
+                assertEquals(row.getY(plain),1);
+            }
+            generator.recycle(row);
+        }
+    }
+
+    @Test
+    public void sameSeedSameRows() {
+        PlainRowGenerator other = new PlainRowGenerator(new Random(42), 5, 7, 3, 2);
+        generator.start();
+        other.start();
+        for (int r = 0; r < 3 * PlainRowGenerator.CAPACITY; ++r) {
+            PlainRowGenerator.Row row = generator.next();
+            PlainRowGenerator.Row otherRow = other.next();
+            for (int plain = 0; plain < 5; ++plain) {
+                assertEquals(row.getX(plain),otherRow.getX(plain));
+                assertEquals(row.getY(plain),otherRow.getY(plain));
+                assertTrue(row.getX(plain) >= 0 && row.getX(plain) < 7);
+                assertTrue(row.getY(plain) >= 0 && row.getY(plain) < 3);
+            }
+            generator.recycle(row);
+            other.recycle(otherRow);
+        }
+        other.stop();
+    }
+
+    @Test
+    public void restart() {
+        generator.start();
+        int[] first = new int[5];
+        for (int r = 0; r < 3; ++r) {
+            PlainRowGenerator.Row row = generator.next();
+            for (int plain = 0; plain < 5; ++plain)
+                first[plain] = row.getX(plain);
+            generator.recycle(row);
+        }
+
+        generator.restart(new Random(42));
+        for (int r = 0; r < 3; ++r) {
+            PlainRowGenerator.Row row = generator.next();
+            for (int plain = 0; plain < 5; ++plain) {
+                if (r == 2)
+                    assertEquals(row.getX(plain),first[plain]);
+                else
+                    assertEquals(row.getX(plain),3);
+            }
+            generator.recycle(row);
+        }
+    }
+
+    @Test
+    public void bounded() throws InterruptedException {
+        generator.start();
+        for (int i = 0; i < 100 && generator.getReady() < PlainRowGenerator.CAPACITY; ++i)
+            Thread.sleep(10);
+        Thread.sleep(10);
+        assertEquals(generator.getReady(),PlainRowGenerator.CAPACITY);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void notRunning() {
+        generator.next();
+    }
+}
@@ -80,4 +80,17 @@ public class BallModelTest {
         assertEquals(ballModel.getInitialColor(), Color.BLACK);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void restart() {
+        ballModel.setPosX(4);
+        ballModel.setPosZ(-120);
+        ballModel.setJump(false);
+        ballModel.setFalling(true);
+        ballModel.restart();
+        assertEquals(ballModel.getPosX(),0f,0.01f);
+        assertEquals(ballModel.getPosY(),2f,0.01f);
+        assertEquals(ballModel.getPosZ(),3f,0.01f);
+        assertEquals(ballModel.canJump(),true);
+        assertEquals(ballModel.isFalling(),false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.gdx.game.model.entities;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EffectTimerTest {
+
+    EffectTimer timer = new EffectTimer();
+
+    EffectTimer.Effect expired = null;
+
+    @Test
+    public void start() {
+        timer.start(EffectTimer.Effect.MULTIPLIER, 2f);
+        assertEquals(timer.isActive(EffectTimer.Effect.MULTIPLIER),true);
+        assertEquals(timer.isActive(EffectTimer.Effect.IMMUNITY),false);
+        assertEquals(timer.getRemaining(EffectTimer.Effect.MULTIPLIER),2f,0.01f);
+    }
+
+    @Test
+    public void update() {
+        timer.start(EffectTimer.Effect.IMMUNITY, 1f);
+        assertEquals(timer.update(0.5f),false);
+        assertEquals(timer.getRemaining(EffectTimer.Effect.IMMUNITY),0.5f,0.01f);
+        assertEquals(timer.update(0.5f),true);
+        assertEquals(timer.isAnyActive(),false);
+    }
+
+    @Test
+    public void listener() {
+        timer.setListener(EffectTimer.Effect.IMMUNITY, new EffectTimer.Listener() {
+            @Override
+            public void onExpired(EffectTimer.Effect effect) {
+                expired = effect;
+            }
+        });
+        timer.start(EffectTimer.Effect.MULTIPLIER, 1f);
+        timer.start(EffectTimer.Effect.IMMUNITY, 2f);
+        timer.update(1.5f);
+        assertEquals(expired,null);
+        timer.update(1f);
+        assertEquals(expired,EffectTimer.Effect.IMMUNITY);
+    }
+
+    @Test
+    public void cancel() {
+        timer.start(EffectTimer.Effect.MULTIPLIER, 1f);
+        timer.cancel(EffectTimer.Effect.MULTIPLIER);
+        assertEquals(timer.isActive(EffectTimer.Effect.MULTIPLIER),false);
+        assertEquals(timer.update(1f),false);
+    }
+}
@@ -27,4 +27,36 @@ public class MapModelTest {
         assertEquals(mapModel.isImmune(),true);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void updateEffects() {
+        mapModel.setScoreMultiplier(3);
+        assertEquals(mapModel.getScoreMultiplier(),3);
+        assertEquals(mapModel.updateEffects(1f),false);
+        assertEquals(mapModel.updateEffects(10f),true);
+        assertEquals(mapModel.getScoreMultiplier(),1);
+    }
+
+    @Test
+    public void concurrentEffects() {
+        mapModel.setScoreMultiplier(2);
+        mapModel.updateEffects(3f);
+        mapModel.setImmune(true);
+        assertEquals(mapModel.updateEffects(4f),false);
+        assertEquals(mapModel.getScoreMultiplier(),1);
+        assertEquals(mapModel.isImmune(),true);
+        assertEquals(mapModel.updateEffects(4f),true);
+        assertEquals(mapModel.isImmune(),false);
+    }
+
+    @Test
+    public void restart() {
+        mapModel.updateScore(5);
+        mapModel.setScoreMultiplier(2);
+        mapModel.setImmune(true);
+        mapModel.restart();
+        assertEquals(mapModel.getScoreCount(),0);
+        assertEquals(mapModel.getScoreMultiplier(),1);
+        assertEquals(mapModel.isImmune(),false);
+        assertEquals(mapModel.getEffects().isAnyActive(),false);
+    }
+}
@@ -0,0 +1,55 @@
+package com.gdx.game.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FrameProfilerTest {
+
+    long[] phases = new long[FrameProfiler.Phase.values().length];
+
+    long[] counters = new long[FrameProfiler.Counter.values().length];
+
+    @Test
+    public void mergeTotals() {
+        FrameProfiler ticks = new FrameProfiler();
+        FrameProfiler frames = new FrameProfiler();
+        ticks.setEnabled(true);
+        frames.setEnabled(true);
+
+        ticks.count(FrameProfiler.Counter.CONTACTS, 3);
+        ticks.endFrame();
+        ticks.count(FrameProfiler.Counter.CONTACTS, 2);
+        ticks.getTotals(phases, counters);
+        assertEquals(counters[FrameProfiler.Counter.CONTACTS.ordinal()],5);
+
+        frames.merge(phases, counters);
+        frames.merge(phases, counters);
+        frames.endFrame();
+        assertEquals(frames.getAverage(FrameProfiler.Counter.CONTACTS),5);
+
+        ticks.count(FrameProfiler.Counter.CONTACTS, 1);
+        ticks.getTotals(phases, counters);
+        frames.merge(phases, counters);
+        frames.endFrame();
+        assertEquals(frames.getAverage(FrameProfiler.Counter.CONTACTS),3);
+    }
+
+    @Test
+    public void skipWhileDisabled() {
+        FrameProfiler ticks = new FrameProfiler();
+        FrameProfiler frames = new FrameProfiler();
+        ticks.setEnabled(true);
+
+        ticks.count(FrameProfiler.Counter.ACTIVE_BODIES, 10);
+        ticks.getTotals(phases, counters);
+        frames.merge(phases, counters);
+
+        frames.setEnabled(true);
+        ticks.count(FrameProfiler.Counter.ACTIVE_BODIES, 4);
+        ticks.getTotals(phases, counters);
+        frames.merge(phases, counters);
+        frames.endFrame();
+        assertEquals(frames.getAverage(FrameProfiler.Counter.ACTIVE_BODIES),4);
+    }
+}
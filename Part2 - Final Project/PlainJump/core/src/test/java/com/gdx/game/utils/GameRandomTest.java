@@ -0,0 +1,34 @@
+package com.gdx.game.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GameRandomTest {
+
+    @Test
+    public void sameSeedSameStream() {
+        Random level = new GameRandom(42).split(GameRandom.Stream.LEVEL);
+        Random other = new GameRandom(42).split(GameRandom.Stream.LEVEL);
+        for (int i = 0; i < 100; ++i)
+            assertEquals(level.nextInt(),other.nextInt());
+    }
+
+    @Test
+    public void independentStreams() {
+        GameRandom random = new GameRandom(42);
+        Random bonus = random.split(GameRandom.Stream.BONUS);
+        int first = bonus.nextInt();
+        random.split(GameRandom.Stream.LEVEL).nextInt();
+        assertEquals(random.split(GameRandom.Stream.BONUS).nextInt(),first);
+        assertNotEquals(random.split(GameRandom.Stream.LEVEL).nextLong(),random.split(GameRandom.Stream.BONUS).nextLong());
+    }
+
+    @Test
+    public void seed() {
+        assertEquals(new GameRandom(7).getSeed(),7);
+        assertNotEquals(new GameRandom(7).split(GameRandom.Stream.LEVEL).nextLong(),new GameRandom(8).split(GameRandom.Stream.LEVEL).nextLong());
+    }
+}
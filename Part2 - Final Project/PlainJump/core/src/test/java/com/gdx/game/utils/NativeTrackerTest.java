@@ -0,0 +1,77 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NativeTrackerTest {
+
+    NativeTracker tracker = NativeTracker.getInstance();
+
+    @After
+    public void reset() {
+        tracker.reset();
+    }
+
+    @Test
+    public void liveCounts() {
+        Object body = new Object();
+        Object shape = new Object();
+        tracker.track(body, NativeTracker.Kind.RIGID_BODY);
+        tracker.track(body, NativeTracker.Kind.RIGID_BODY);
+        tracker.track(shape, NativeTracker.Kind.COLLISION_SHAPE, 100);
+        assertEquals(tracker.getLive(),2);
+        assertEquals(tracker.getLive(NativeTracker.Kind.RIGID_BODY),1);
+        assertEquals(tracker.getEstimatedBytes(NativeTracker.Kind.COLLISION_SHAPE),100);
+
+        tracker.untrack(body);
+        tracker.untrack(body);
+        assertEquals(tracker.getLive(NativeTracker.Kind.RIGID_BODY),0);
+        assertEquals(tracker.getEstimatedBytes(),100);
+        tracker.untrack(shape);
+        assertEquals(tracker.getLive(),0);
+        assertEquals(tracker.getEstimatedBytes(),0);
+    }
+
+    @Test
+    public void leaks() {
+        tracker.track(new Object(), NativeTracker.Kind.STAGE);
+        tracker.beginSession();
+        Object disposed = new Object();
+        Object leaked = new Object();
+        tracker.track(disposed, NativeTracker.Kind.SPRITE_BATCH);
+        tracker.track(leaked, NativeTracker.Kind.FONT_GENERATOR);
+        tracker.untrack(disposed);
+        assertEquals(tracker.getLeaks().size,0);
+
+        tracker.beginSession();
+        assertEquals(tracker.getLeaks().size,1);
+        assertEquals(tracker.getLeaks().first().getKind(),NativeTracker.Kind.FONT_GENERATOR);
+        assertEquals(tracker.getLeaks().first().getSession(),1);
+        assertNull(tracker.getLeaks().first().getCreation());
+        assertTrue(tracker.report().contains("leaked: 1"));
+    }
+
+    @Test
+    public void creationStacks() {
+        tracker.setRecordingStacks(true);
+        tracker.beginSession();
+        tracker.track(new Object(), NativeTracker.Kind.RIGID_BODY);
+        tracker.beginSession();
+        assertNotNull(tracker.getLeaks().first().getCreation());
+        assertTrue(tracker.report().contains("creationStacks"));
+    }
+
+    @Test
+    public void gameObjects() {
+        tracker.beginSession();
+        tracker.trackForGame(new Model());
+        tracker.track(new Model());
+        tracker.beginSession();
+        assertEquals(tracker.getLive(NativeTracker.Kind.MODEL),2);
+        assertEquals(tracker.getLeaks().size,1);
+        assertEquals(tracker.getLeaks().first().getSession(),1);
+    }
+}
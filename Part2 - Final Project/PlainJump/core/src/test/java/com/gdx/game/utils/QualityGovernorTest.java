@@ -0,0 +1,66 @@
+package com.gdx.game.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class QualityGovernorTest {
+
+    private static final float FAST = 1f / 60;
+
+    private static final float SLOW = 1f / 30;
+
+    private static int run(QualityGovernor governor, float delta, int frames) {
+        int changes = 0;
+        for (int i = 0; i < frames; ++i)
+            if (governor.addFrame(delta))
+                ++changes;
+        return changes;
+    }
+
+    @Test
+    public void holdsOnTarget() {
+        QualityGovernor governor = new QualityGovernor(60, QualityGovernor.Level.LOW, QualityGovernor.Level.FULL);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.FULL);
+        assertEquals(run(governor, FAST, 10000),0);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.FULL);
+    }
+
+    @Test
+    public void dropsWithinBounds() {
+        QualityGovernor governor = new QualityGovernor(60, QualityGovernor.Level.MEDIUM, QualityGovernor.Level.FULL);
+        assertEquals(run(governor, SLOW, QualityGovernor.WINDOW - 1),0);
+        assertEquals(run(governor, SLOW, 1),1);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.HIGH);
+
+        run(governor, SLOW, 10000);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.MEDIUM);
+    }
+
+    @Test
+    public void ignoresSpikes() {
+        QualityGovernor governor = new QualityGovernor(60, QualityGovernor.Level.LOW, QualityGovernor.Level.FULL);
+        for (int i = 0; i < 100; ++i) {
+            run(governor, FAST, 19);
+            run(governor, SLOW * 3, 1);
+        }
+        assertEquals(governor.getLevel(),QualityGovernor.Level.FULL);
+    }
+
+    @Test
+    public void risesSlowerAfterFailedRise() {
+        QualityGovernor governor = new QualityGovernor(60, QualityGovernor.Level.LOW, QualityGovernor.Level.FULL);
+        run(governor, SLOW, QualityGovernor.WINDOW);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.HIGH);
+
+        int rise = QualityGovernor.WINDOW + (governor.getRiseEvaluations() - 1) * QualityGovernor.EVALUATE_FRAMES;
+        assertEquals(run(governor, FAST, rise - 1),0);
+        assertEquals(run(governor, FAST, 1),1);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.FULL);
+
+        int evaluations = governor.getRiseEvaluations();
+        run(governor, SLOW, QualityGovernor.WINDOW);
+        assertEquals(governor.getLevel(),QualityGovernor.Level.HIGH);
+        assertEquals(governor.getRiseEvaluations(),evaluations * 2);
+    }
+}
@@ -0,0 +1,101 @@
+package com.gdx.game.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class SettingsStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String read(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            byte[] bytes = new byte[(int) file.length()];
+            int read = 0;
+            while (read < bytes.length)
+                read += in.read(bytes, read, bytes.length - read);
+            return new String(bytes, "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void flushWritesLatest() throws IOException {
+        File file = new File(folder.getRoot(), "data/settings.json");
+        SettingsStore store = new SettingsStore(file);
+        for (int i = 0; i <= 100; ++i)
+            store.submit("settings " + i);
+        store.flush();
+        assertEquals(read(file),"settings 100");
+        assertTrue(store.getWrites() >= 1);
+        assertTrue(store.getWrites() <= 101);
+        assertNull(store.getError());
+        store.dispose();
+    }
+
+    @Test
+    public void replacesAtomically() throws IOException {
+        File file = folder.newFile("settings.json");
+        SettingsStore store = new SettingsStore(file);
+        store.submit("old");
+        store.flush();
+        store.submit("new");
+        store.dispose();
+        assertEquals(read(file),"new");
+        assertFalse(new File(file.getPath() + SettingsStore.TEMP_SUFFIX).exists());
+    }
+
+    @Test
+    public void submitAfterDispose() throws IOException {
+        File file = new File(folder.getRoot(), "settings.json");
+        SettingsStore store = new SettingsStore(file);
+        store.dispose();
+        assertFalse(file.exists());
+        store.submit("restarted");
+        store.dispose();
+        assertEquals(read(file),"restarted");
+        assertEquals(store.getWrites(),1);
+    }
+
+    @Test
+    public void encodesOnStoreThread() throws IOException {
+        File file = new File(folder.getRoot(), "settings.json");
+        SettingsStore store = new SettingsStore(file);
+        store.submit(new SettingsStore.Contents() {
+            @Override
+            public String encode() {
+                return Thread.currentThread().getName();
+            }
+        });
+        store.dispose();
+        assertEquals(read(file),"settings-store");
+    }
+
+    @Test
+    public void encodeError() throws IOException {
+        File file = new File(folder.getRoot(), "settings.json");
+        SettingsStore store = new SettingsStore(file);
+        store.submit(new SettingsStore.Contents() {
+            @Override
+            public String encode() {
+                throw new IllegalStateException("broken");
+            }
+        });
+        store.flush();
+        assertNotNull(store.getError());
+        assertFalse(file.exists());
+        store.submit("fixed");
+        store.dispose();
+        assertNull(store.getError());
+        assertEquals(read(file),"fixed");
+    }
+}
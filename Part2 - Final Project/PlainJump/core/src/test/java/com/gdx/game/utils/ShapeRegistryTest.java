@@ -0,0 +1,73 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.physics.bullet.BulletBase;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ShapeRegistryTest {
+
+    static class Shared extends BulletBase {
+
+        int disposes = 0;
+
+        Shared() {
+            super("Shared", 0, false);
+        }
+
+        @Override
+        public void dispose() {
+            ++disposes;
+        }
+    }
+
+    ShapeRegistry registry = ShapeRegistry.getInstance();
+
+    @After
+    public void reset() {
+        registry.reset();
+        NativeTracker.getInstance().reset();
+    }
+
+    @Test
+    public void sharedAcquire() {
+        assertNull(registry.obtain("shape"));
+        Shared shape = new Shared();
+        registry.add("shape", shape, NativeTracker.Kind.COLLISION_SHAPE);
+        assertSame(registry.obtain("shape"), shape);
+        assertSame(registry.obtain("shape"), shape);
+        assertEquals(registry.getReferences(shape),3);
+        assertEquals(registry.size(),1);
+        assertEquals(NativeTracker.getInstance().getLive(NativeTracker.Kind.COLLISION_SHAPE),1);
+    }
+
+    @Test
+    public void releaseToZero() {
+        Shared shape = new Shared();
+        registry.add("shape", shape, NativeTracker.Kind.COLLISION_SHAPE);
+        registry.obtain("shape");
+
+        registry.release(shape);
+        assertEquals(registry.getReferences(shape),1);
+        assertEquals(shape.disposes,0);
+
+        registry.release(shape);
+        assertEquals(registry.getReferences(shape),0);
+        assertEquals(registry.size(),0);
+        assertNull(registry.obtain("shape"));
+        assertEquals(shape.disposes,1);
+        assertEquals(NativeTracker.getInstance().getLive(),0);
+    }
+
+    @Test
+    public void unsharedDisposedOnce() {
+        Shared shape = new Shared();
+        NativeTracker.getInstance().track(shape, NativeTracker.Kind.COLLISION_SHAPE);
+        registry.release(shape);
+        assertEquals(shape.disposes,1);
+        assertEquals(registry.size(),0);
+        assertEquals(NativeTracker.getInstance().getLive(),0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.gdx.game.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Matrix4;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TransformSnapshotTest {
+
+    @Test
+    public void acquireLatest() {
+        TransformSnapshot snapshot = new TransformSnapshot(1);
+        assertFalse(snapshot.acquire());
+
+        for (int tick = 1; tick <= 3; ++tick) {
+            snapshot.getBack().tick = tick;
+            snapshot.publish();
+        }
+        assertTrue(snapshot.acquire());
+        assertEquals(snapshot.getFront().tick,3);
+        assertFalse(snapshot.acquire());
+        assertEquals(snapshot.getFront().tick,3);
+    }
+
+    @Test
+    public void frontNotWritten() {
+        TransformSnapshot snapshot = new TransformSnapshot(1);
+        snapshot.getBack().tick = 1;
+        snapshot.publish();
+        snapshot.acquire();
+        TransformSnapshot.Frame front = snapshot.getFront();
+        for (int tick = 2; tick <= 5; ++tick) {
+            assertNotSame(snapshot.getBack(),front);
+            snapshot.getBack().tick = tick;
+            snapshot.publish();
+        }
+        assertEquals(front.tick,1);
+    }
+
+    @Test
+    public void slotValues() {
+        TransformSnapshot snapshot = new TransformSnapshot(2);
+        Matrix4 transform = new Matrix4().setToTranslation(1, 2, 3);
+        snapshot.getBack().setCamera(4, 5, 6);
+        snapshot.getBack().set(1, transform, Color.RED, true, 7);
+        snapshot.publish();
+        snapshot.acquire();
+
+        float[] data = snapshot.getFront().data;
+        int offset = TransformSnapshot.offset(1);
+        assertEquals(data[2],6,0);
+        assertEquals(data[offset + Matrix4.M03],1,0);
+        assertEquals(data[offset + Matrix4.M23],3,0);
+        assertEquals(data[offset + TransformSnapshot.COLOR],1,0);
+        assertEquals(data[offset + TransformSnapshot.VISIBLE],1,0);
+        assertEquals(data[offset + TransformSnapshot.REVISION],7,0);
+    }
+
+    @Test
+    public void previousTick() {
+        TransformSnapshot snapshot = new TransformSnapshot(1);
+        for (int tick = 1; tick <= 3; ++tick) {
+            snapshot.getBack().tick = tick;
+            snapshot.getBack().setCamera(tick, 0, 0);
+            snapshot.publish();
+        }
+        snapshot.acquire();
+        assertEquals(snapshot.getFront().tick,3);
+        assertEquals(snapshot.getFront().previousTick,2);
+        assertEquals(snapshot.getFront().previous[0],2,0);
+        assertEquals(snapshot.getFront().data[0],3,0);
+    }
+}
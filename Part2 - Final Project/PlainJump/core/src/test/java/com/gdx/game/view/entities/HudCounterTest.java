@@ -0,0 +1,29 @@
+package com.gdx.game.view.entities;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HudCounterTest {
+
+    @Test
+    public void changedOnly() {
+        HudCounter counter = new HudCounter("score: ");
+        assertEquals(counter.set(0),true);
+        assertEquals(counter.getText().toString(),"score: 0");
+        assertEquals(counter.set(0),false);
+        assertEquals(counter.set(1234),true);
+        assertEquals(counter.getText().toString(),"score: 1234");
+        assertEquals(counter.set(-7),true);
+        assertEquals(counter.getText().toString(),"score: -7");
+    }
+
+    @Test
+    public void reusedText() {
+        HudCounter counter = new HudCounter("x");
+        counter.set(2);
+        CharSequence text = counter.getText();
+        counter.set(3);
+        assertSame(counter.getText(),text);
+    }
+}
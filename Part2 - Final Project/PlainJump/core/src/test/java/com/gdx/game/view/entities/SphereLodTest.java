@@ -0,0 +1,27 @@
+package com.gdx.game.view.entities;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SphereLodTest {
+
+    @Test
+    public void divisions() {
+        assertEquals(SphereLod.getDivisions(30, 0),30);
+        assertEquals(SphereLod.getDivisions(30, 1),15);
+        assertEquals(SphereLod.getDivisions(30, 2),7);
+        assertEquals(SphereLod.getDivisions(12, 2),SphereLod.MIN_DIVISIONS);
+    }
+
+    @Test
+    public void tiers() {
+        assertEquals(SphereLod.getTier(0, 0.5f, true),0);
+        assertEquals(SphereLod.getTier(20, 0.5f, true),0);
+        assertEquals(SphereLod.getTier(21, 0.5f, true),1);
+        assertEquals(SphereLod.getTier(90, 0.5f, true),2);
+        assertEquals(SphereLod.getTier(200, 0.5f, true),SphereLod.TIER_RADII.length);
+        assertEquals(SphereLod.getTier(200, 0.5f, false),SphereLod.TIER_RADII.length - 1);
+        assertEquals(SphereLod.getTier(200, 2f, true),1);
+    }
+}
@@ -3,10 +3,27 @@ package com.gdx.game.desktop;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.gdx.game.PlainJump;
+import com.gdx.game.utils.NativeTracker;
 
 public class DesktopLauncher {
 	public static void main (String[] arg) {
 		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
-		new LwjglApplication(new PlainJump(), config);
+		String replayPath = null;
+		boolean physicsThreaded = false;
+		boolean recording = false;
+		for (int i = 0; i < arg.length; ++i) {
+			if (arg[i].equals("--replay") && i + 1 < arg.length)
+				replayPath = arg[++i];
+			else if (arg[i].equals("--physics-thread"))
+				physicsThreaded = true;
+			else if (arg[i].equals("--record"))
+				recording = true;
+			else if (arg[i].equals("--trace-natives"))
+				NativeTracker.getInstance().setRecordingStacks(true);
+		}
+		PlainJump game = new PlainJump(replayPath);
+		game.setPhysicsThreaded(physicsThreaded);
+		game.setRecording(recording);
+		new LwjglApplication(game, config);
 	}
 }
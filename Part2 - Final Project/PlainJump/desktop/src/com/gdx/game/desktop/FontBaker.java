@@ -0,0 +1,46 @@
+package com.gdx.game.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.gdx.game.view.FontCache;
+
+/**
+ * Bakes every font size used by the views into .fnt files and page
+ * images under the assets directory given, so the game loads them
+ * instead of rasterizing them with FreeType on start up.
+ */
+public class FontBaker {
+
+	/**
+	 * width and height of each baked page image
+	 */
+	private static final int PAGE_SIZE = 1024;
+
+	public static void main (String[] arg) {
+		FileHandle assets = new FileHandle(arg.length > 0 ? arg[0] : ".");
+		FileHandle out = assets.child(FontCache.BAKED_DIR);
+		out.mkdirs();
+
+		GdxNativesLoader.load();
+		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(assets.child(FontCache.FONT_PATH));
+		BitmapFontWriter.setOutputFormat(BitmapFontWriter.OutputFormat.Text);
+		for (int size : FontCache.SIZES) {
+			String name = FontCache.getBakedName(FontCache.FONT_PATH, size);
+			PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+			FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+			parameter.size = size;
+			parameter.packer = packer;
+			FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(parameter);
+
+			String[] pages = BitmapFontWriter.writePixmaps(packer.getPages(), out, name);
+			BitmapFontWriter.writeFont(data, pages, out.child(name + ".fnt"), new BitmapFontWriter.FontInfo(name, size), PAGE_SIZE, PAGE_SIZE);
+			System.out.printf("baked %s, %d page(s)\n", name, pages.length);
+			packer.dispose();
+		}
+		generator.dispose();
+	}
+}
@@ -0,0 +1,83 @@
+package com.gdx.game.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.gdx.game.controller.MapSimulation;
+import com.gdx.game.controller.entities.InputReplay;
+import com.gdx.game.utils.FrameProfiler;
+import com.gdx.game.utils.NativeTracker;
+
+public class HeadlessLauncher {
+	public static void main (final String[] arg) {
+		String replayPath = null;
+		int ticks = 10000;
+		int restarts = 0;
+		for (int i = 0; i < arg.length; ++i) {
+			if (arg[i].equals("--replay") && i + 1 < arg.length)
+				replayPath = arg[++i];
+			else if (arg[i].equals("--restarts") && i + 1 < arg.length)
+				restarts = Integer.parseInt(arg[++i]);
+			else if (arg[i].equals("--trace-natives"))
+				NativeTracker.getInstance().setRecordingStacks(true);
+			else
+				ticks = Integer.parseInt(arg[i]);
+		}
+		final String replay = replayPath;
+		final int runTicks = ticks;
+		final int runRestarts = restarts;
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create () {
+				Bullet.init();
+				if (replay != null)
+					replay(replay);
+				else
+					run(runTicks, runRestarts);
+				checkNatives();
+				Gdx.app.exit();
+			}
+		}, config);
+	}
+
+	private static void run (int ticks, int restarts) {
+		MapSimulation simulation = new MapSimulation();
+		for (int run = 0; run <= restarts; ++run) {
+			if (run > 0) {
+				NativeTracker.getInstance().beginSession();
+				simulation.restart(run);
+			}
+			long elapsed = simulation.run(ticks, MapSimulation.DEFAULT_DELTA);
+			System.out.printf("%d ticks in %.2f ms (%.0f ticks/s), score %d\n", ticks, elapsed / 1e6,
+					ticks / (elapsed / 1e9), simulation.getMap().getScore());
+		}
+		if (NativeTracker.getInstance().getLeaks().size > 0)
+			fail();
+		simulation.dispose();
+	}
+
+	private static void replay (String path) {
+		InputReplay replay = new InputReplay(Gdx.files.absolute(path));
+		FrameProfiler.getInstance().setEnabled(true);
+		MapSimulation simulation = new MapSimulation(replay.getSeed());
+		long elapsed = simulation.replay(replay);
+		StringBuilder summary = new StringBuilder();
+		FrameProfiler.getInstance().appendSummary(summary);
+		System.out.printf("replayed %d frames of seed %d in %.2f ms, score %d\n%s", replay.getFrames(), replay.getSeed(),
+				elapsed / 1e6, simulation.getMap().getScore(), summary);
+		simulation.dispose();
+	}
+
+	private static void checkNatives () {
+		if (NativeTracker.getInstance().getLive() > 0)
+			fail();
+	}
+
+	private static void fail () {
+		System.err.print(NativeTracker.getInstance().report());
+		System.exit(1);
+	}
+}